@@ -0,0 +1,91 @@
+package benchmark;
+
+import analyzer.ProjectAnalyzer;
+import parser.*;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Byte allocati dal lexer per token, con una String per immagine oppure
+ * con le immagini condivise di TokenImages. Legge i file una volta e
+ * ripete solo la tokenizzazione; l'allocazione e' quella del thread
+ * corrente (com.sun.management.ThreadMXBean).
+ *
+ * Uso: java -cp jmh/target/benchmarks.jar benchmark.LexerAllocationBenchmark [file o directory]...
+ */
+public class LexerAllocationBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        List<Path> roots = new ArrayList<>();
+        for (String arg : args) {
+            roots.add(Paths.get(arg));
+        }
+        if (roots.isEmpty()) {
+            roots.add(Paths.get("input"));
+        }
+        List<ByteBuffer> contents = new ArrayList<>();
+        for (Path file : ProjectAnalyzer.collectSources(roots)) {
+            contents.add(ArrayCharStream.readFile(file));
+        }
+
+        TokenImages images = new TokenImages();
+        long tokens = 0;
+        for (int i = 0; i < 3; i++) {
+            tokens = lex(contents, null);
+            lex(contents, images);
+        }
+
+        long plain = Long.MAX_VALUE;
+        long shared = Long.MAX_VALUE;
+        for (int r = 0; r < ROUNDS; r++) {
+            long before = allocatedBytes();
+            lex(contents, null);
+            plain = Math.min(plain, allocatedBytes() - before);
+
+            before = allocatedBytes();
+            lex(contents, images);
+            shared = Math.min(shared, allocatedBytes() - before);
+        }
+
+        System.out.printf("File: %d, token: %,d%n", contents.size(), tokens);
+        System.out.printf("Una String per token: %6.1f byte per token%n", (double) plain / tokens);
+        System.out.printf("TokenImages:          %6.1f byte per token%n", (double) shared / tokens);
+        System.out.printf("Immagini dalla cache: %d, create: %d%n", images.getHits(), images.getMisses());
+    }
+
+    // tokenizza tutti i file, token speciali (commenti) compresi
+    private static long lex(List<ByteBuffer> contents, TokenImages images) {
+        ArrayCharStream stream = new ArrayCharStream();
+        stream.setTokenImages(images);
+        ArrayTokenManager tokenManager = new ArrayTokenManager(stream);
+        long tokens = 0;
+        for (ByteBuffer content : contents) {
+            stream.ReInit(content.duplicate(), StandardCharsets.UTF_8);
+            tokenManager.ReInit(stream);
+            try {
+                for (Token t = tokenManager.getNextToken(); t.kind != JavaParserConstants.EOF; t = tokenManager.getNextToken()) {
+                    tokens++;
+                    for (Token s = t.specialToken; s != null; s = s.specialToken) {
+                        tokens++;
+                    }
+                }
+            } catch (TokenMgrError e) {
+                // file non tokenizzabile: conta i token fino all'errore
+            }
+        }
+        return tokens;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
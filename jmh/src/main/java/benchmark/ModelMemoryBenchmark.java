@@ -0,0 +1,167 @@
+package benchmark;
+
+import clean_metrics.ClassMetrics;
+import clean_metrics.SymbolTable;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Misura i byte per classe del modello di metriche: la rappresentazione
+ * precedente (HashSet<String>/HashMap<String, Set<String>>, una String per
+ * ogni occorrenza come l'immagine di un token) contro ClassMetrics su id
+ * della SymbolTable e collezioni primitive (tabella dei simboli inclusa).
+ *
+ * Uso: java -Xmx2g -cp jmh/target/benchmarks.jar benchmark.ModelMemoryBenchmark [classi]
+ */
+public class ModelMemoryBenchmark {
+
+    // forma di una classe "media": numeri tipici di un progetto Java
+    private static final int FIELDS = 8;
+    private static final int METHODS = 12;
+    private static final int COUPLED = 6;
+    private static final int INVOKED = 25;
+    private static final int ACCESSES_PER_METHOD = 3;
+
+    // vocabolario dei nomi di metodi e campi condiviso tra le classi
+    private static final int METHOD_NAMES = 4000;
+    private static final int FIELD_NAMES = 2000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int classes = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+
+        long boxed = measure(() -> buildBoxed(classes));
+        long primitive = measure(() -> buildPrimitive(classes));
+
+        System.out.printf("Classi: %d%n", classes);
+        System.out.printf("Prima (Set<String>):      %,d byte per classe%n", boxed / classes);
+        System.out.printf("Dopo  (id + IntSet):      %,d byte per classe%n", primitive / classes);
+        System.out.printf("Riduzione:                %.1fx%n", (double) boxed / primitive);
+    }
+
+    // il modello in misura resta raggiungibile da qui durante le GC
+    private static Object retained;
+
+    // heap occupato dal modello costruito da builder
+    private static long measure(Supplier<Object> builder) throws InterruptedException {
+        long before = usedHeap();
+        retained = builder.get();
+        long after = usedHeap();
+        retained = null;
+        return after - before;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    // ----------------------------
+    // MODELLI
+    // ----------------------------
+    private static Object buildPrimitive(int classes) {
+        SymbolTable symbols = new SymbolTable();
+        List<ClassMetrics> model = new ArrayList<>(classes);
+        Random random = new Random(1);
+        for (int c = 0; c < classes; c++) {
+            ClassMetrics cm = new ClassMetrics(symbols, token("Class" + c));
+            fill(random, classes, c, new Sink() {
+                public void parent(String name) { cm.setParentClass(name); }
+                public void field(String name) { cm.addField(name); }
+                public void method(String name) { cm.addMethod(name); }
+                public void coupled(String name) { cm.addCoupledClass(name); }
+                public void invoked(String name) { cm.addInvokedMethod(name); }
+                public void access(String method, String field) { cm.addMethodAccessedField(method, field); }
+                public void child(String name) { cm.addChild(name); }
+            });
+            model.add(cm);
+        }
+        return Arrays.asList(symbols, model);
+    }
+
+    private static Object buildBoxed(int classes) {
+        List<BoxedClassMetrics> model = new ArrayList<>(classes);
+        Random random = new Random(1);
+        for (int c = 0; c < classes; c++) {
+            BoxedClassMetrics cm = new BoxedClassMetrics(token("Class" + c));
+            fill(random, classes, c, new Sink() {
+                public void parent(String name) { cm.parentClass = name; }
+                public void field(String name) { cm.fields.add(name); }
+                public void method(String name) { cm.methods.add(name); }
+                public void coupled(String name) { cm.coupledClasses.add(name); }
+                public void invoked(String name) { cm.invokedMethods.add(name); }
+                public void access(String method, String field) {
+                    cm.methodToAccessedFields.computeIfAbsent(method, k -> new HashSet<>()).add(field);
+                }
+                public void child(String name) { cm.children.add(name); }
+            });
+            model.add(cm);
+        }
+        return model;
+    }
+
+    private interface Sink {
+        void parent(String name);
+        void field(String name);
+        void method(String name);
+        void coupled(String name);
+        void invoked(String name);
+        void access(String method, String field);
+        void child(String name);
+    }
+
+    // stessi dati per le due rappresentazioni (stesso seme)
+    private static void fill(Random random, int classes, int c, Sink sink) {
+        if (c > 0 && random.nextInt(3) == 0) {
+            sink.parent(token("Class" + random.nextInt(c)));
+        }
+        String[] fields = new String[FIELDS];
+        for (int i = 0; i < FIELDS; i++) {
+            fields[i] = "f" + random.nextInt(FIELD_NAMES);
+            sink.field(token(fields[i]));
+        }
+        for (int i = 0; i < METHODS; i++) {
+            String method = "m" + random.nextInt(METHOD_NAMES);
+            sink.method(token(method));
+            for (int a = 0; a < ACCESSES_PER_METHOD; a++) {
+                sink.access(token(method), token(fields[random.nextInt(FIELDS)]));
+            }
+        }
+        for (int i = 0; i < COUPLED; i++) {
+            sink.coupled(token("Class" + random.nextInt(classes)));
+        }
+        for (int i = 0; i < INVOKED; i++) {
+            sink.invoked(token("m" + random.nextInt(METHOD_NAMES)));
+        }
+        if (random.nextInt(4) == 0) {
+            sink.child(token("Class" + random.nextInt(classes)));
+        }
+    }
+
+    // una nuova String per occorrenza, come Token.image nel parser
+    private static String token(String name) {
+        return new String(name.toCharArray());
+    }
+
+    // layout di clean_metrics.ClassMetrics prima degli id della SymbolTable
+    private static final class BoxedClassMetrics {
+        final String className;
+        String parentClass;
+        final Set<String> fields = new HashSet<>();
+        final Set<String> methods = new HashSet<>();
+        final Map<String, Set<String>> methodToAccessedFields = new HashMap<>();
+        final Set<String> coupledClasses = new HashSet<>();
+        final Set<String> invokedMethods = new HashSet<>();
+        final List<String> children = new ArrayList<>();
+
+        BoxedClassMetrics(String className) {
+            this.className = className;
+        }
+    }
+}
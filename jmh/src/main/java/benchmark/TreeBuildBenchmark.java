@@ -0,0 +1,102 @@
+package benchmark;
+
+import parser.*;
+
+import java.io.StringReader;
+
+/**
+ * Costruzione dell'AST su corpi con migliaia di membri (costanti enum,
+ * elementi di un inizializzatore di array, campi): se la costruzione e'
+ * lineare i nanosecondi per membro restano costanti al crescere di N.
+ * L'ultima colonna aggiunge i figli a un SimpleNode in ordine crescente,
+ * il caso in cui il vecchio jjtAddChild ricopiava l'array a ogni figlio.
+ *
+ * Uso: java -Xss64m -cp jmh/target/benchmarks.jar benchmark.TreeBuildBenchmark [N massimo]
+ */
+public class TreeBuildBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int max = args.length > 0 ? Integer.parseInt(args[0]) : 64_000;
+
+        // riscaldamento del JIT sulla dimensione piu' piccola
+        for (int i = 0; i < 20; i++) {
+            parse(enumSource(1000));
+            parse(arraySource(1000));
+            parse(fieldSource(1000));
+            addChildren(1000);
+        }
+
+        System.out.printf("%10s %14s %14s %14s %14s%n", "membri", "enum ns/m", "array ns/m", "campi ns/m", "addChild ns/m");
+        for (int n = 1000; n <= max; n *= 2) {
+            System.out.printf("%,10d %14.1f %14.1f %14.1f %14.1f%n", n,
+                    perMember(enumSource(n), n),
+                    perMember(arraySource(n), n),
+                    perMember(fieldSource(n), n),
+                    perMemberAddChildren(n));
+        }
+    }
+
+    // ----------------------------
+    // MISURE
+    // ----------------------------
+    private static double perMember(String source, int members) throws ParseException {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            parse(source);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return (double) best / members;
+    }
+
+    private static double perMemberAddChildren(int members) {
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            addChildren(members);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return (double) best / members;
+    }
+
+    private static Node parse(String source) throws ParseException {
+        return new JavaParser(new StringReader(source)).CompilationUnit();
+    }
+
+    private static Node addChildren(int members) {
+        SimpleNode node = new SimpleNode(JavaParserTreeConstants.JJTCLASSORINTERFACEBODY);
+        for (int i = 0; i < members; i++) {
+            node.jjtAddChild(new SimpleNode(JavaParserTreeConstants.JJTFIELDDECLARATION), i);
+        }
+        return node;
+    }
+
+    // ----------------------------
+    // SORGENTI SINTETICI
+    // ----------------------------
+    private static String enumSource(int constants) {
+        StringBuilder sb = new StringBuilder("enum Big {\n");
+        for (int i = 0; i < constants; i++) {
+            sb.append("  C").append(i).append(",\n");
+        }
+        return sb.append("}\n").toString();
+    }
+
+    private static String arraySource(int elements) {
+        StringBuilder sb = new StringBuilder("class Table {\n  static final int[] DATA = {\n");
+        for (int i = 0; i < elements; i++) {
+            sb.append("    ").append(i).append(",\n");
+        }
+        return sb.append("  };\n}\n").toString();
+    }
+
+    private static String fieldSource(int fields) {
+        StringBuilder sb = new StringBuilder("class Wide {\n");
+        for (int i = 0; i < fields; i++) {
+            sb.append("  int f").append(i).append(";\n");
+        }
+        return sb.append("}\n").toString();
+    }
+}
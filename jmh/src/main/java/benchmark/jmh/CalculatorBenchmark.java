@@ -0,0 +1,26 @@
+package benchmark.jmh;
+
+import clean_metrics.MetricsCalculator;
+import clean_metrics.MetricsResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tutte le righe del report con un MetricsCalculator nuovo a ogni
+ * invocazione: costruzione degli indici e ogni metrica di ogni classe,
+ * DIT compresa senza memoria.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class CalculatorBenchmark {
+
+    @Benchmark
+    public List<MetricsResult> calculate(ProjectModel model) {
+        return new MetricsCalculator(model.project()).calculate();
+    }
+}
@@ -0,0 +1,124 @@
+package benchmark.jmh;
+
+import analyzer.ProjectAnalyzer;
+import benchmark.CorpusGenerator;
+import org.openjdk.jmh.annotations.*;
+import parser.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sorgenti su cui girano i benchmark, letti una sola volta per prova:
+ *  - "esempio":   i file di input/Esempio Java Project (cercata risalendo
+ *                 dalla directory corrente, oppure -Doometrics.input=dir);
+ *  - "sintetico": un progetto di SYNTHETIC_CLASSES classi generato in
+ *                 memoria da CorpusGenerator, con i parametri di default;
+ *  - "god", "deep", "dense": lo stesso progetto con una delle forme
+ *                 patologiche di CorpusGenerator (solo con -p corpus=...).
+ * Sono tenuti solo i file che il parser accetta, cosi' ogni benchmark
+ * misura lo stesso lavoro senza eccezioni.
+ */
+@State(Scope.Benchmark)
+public class Corpus {
+
+    static final String EXAMPLE_DIR = "input/Esempio Java Project";
+    static final int SYNTHETIC_CLASSES = 400;
+
+    @Param({"esempio", "sintetico"})
+    public String corpus;
+
+    private List<ByteBuffer> contents;
+    private long bytes;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        List<ByteBuffer> all = new ArrayList<>();
+        if ("esempio".equals(corpus)) {
+            for (Path file : ProjectAnalyzer.collectSources(Collections.singletonList(exampleDir()))) {
+                all.add(ArrayCharStream.readFile(file));
+            }
+        } else {
+            CorpusGenerator generator = new CorpusGenerator();
+            generator.setClasses(SYNTHETIC_CLASSES);
+            if (!"sintetico".equals(corpus)) {
+                generator.applyShape(corpus);
+            }
+            for (int c = 0; c < SYNTHETIC_CLASSES; c++) {
+                all.add(ByteBuffer.wrap(generator.source(c).getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        contents = new ArrayList<>();
+        Parsers parsers = new Parsers();
+        for (ByteBuffer content : all) {
+            try {
+                parsers.parse(content);
+                contents.add(content);
+                bytes += content.remaining();
+            } catch (ParseException | TokenMgrError e) {
+                // file non parsabile: escluso da tutti i benchmark
+            }
+        }
+        if (contents.isEmpty()) {
+            throw new IllegalStateException("Nessun sorgente parsabile nel corpus " + corpus);
+        }
+    }
+
+    public List<ByteBuffer> contents() {
+        return contents;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    private static Path exampleDir() {
+        String configured = System.getProperty("oometrics.input");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        for (Path dir = Paths.get("").toAbsolutePath(); dir != null; dir = dir.getParent()) {
+            Path candidate = dir.resolve(EXAMPLE_DIR);
+            if (Files.isDirectory(candidate)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException(EXAMPLE_DIR + " non trovata: lanciare dalla radice del progetto"
+                + " o indicarla con -Doometrics.input=dir");
+    }
+
+    // ----------------------------
+    // PARSER RIUSATO
+    // ----------------------------
+
+    // stream, token manager e parser riusati da un file all'altro, come
+    // nel Worker di ProjectAnalyzer
+    static final class Parsers {
+        final ArrayCharStream stream = new ArrayCharStream();
+        final ArrayTokenManager tokenManager = new ArrayTokenManager(stream);
+        final JavaParser parser = new JavaParser(tokenManager);
+
+        Parsers() {
+            stream.setTokenImages(new TokenImages());
+        }
+
+        void reset(ByteBuffer content) {
+            stream.ReInit(content.duplicate(), StandardCharsets.UTF_8);
+            tokenManager.ReInit(stream);
+        }
+
+        Node parse(ByteBuffer content) throws ParseException {
+            reset(content);
+            parser.ReInit(tokenManager);
+            return parser.CompilationUnit();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package benchmark.jmh;
+
+import clean_metrics.ClassMetrics;
+import clean_metrics.Metric;
+import clean_metrics.MetricsCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DIT su tutte le classi del modello. MetricsCalculator memorizza le
+ * profondita' gia' calcolate, quindi ogni chiamata usa un calcolatore
+ * nuovo: i BATCH calcolatori di un'iterazione sono costruiti nel suo
+ * setup e l'iterazione e' un solo lotto di BATCH chiamate, misurato per
+ * intero (SingleShotTime). Il punteggio e' il tempo del lotto: diviso
+ * BATCH e' il tempo per calcolare le catene di tutte le classi.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = DitBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = DitBenchmark.BATCH)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+@State(Scope.Thread)
+public class DitBenchmark {
+
+    static final int BATCH = 200;
+
+    private List<ClassMetrics> classes;
+    private final MetricsCalculator[] calculators = new MetricsCalculator[BATCH];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup(ProjectModel model) {
+        classes = new ArrayList<>(model.project().values());
+    }
+
+    @Setup(Level.Iteration)
+    public void freshCalculators(ProjectModel model) {
+        for (int i = 0; i < BATCH; i++) {
+            calculators[i] = new MetricsCalculator(model.project());
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public long dit() {
+        MetricsCalculator calculator = calculators[next++];
+        long sum = 0;
+        for (ClassMetrics cm : classes) {
+            sum += calculator.compute(Metric.DIT, cm);
+        }
+        return sum;
+    }
+}
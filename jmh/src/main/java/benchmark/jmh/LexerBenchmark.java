@@ -0,0 +1,44 @@
+package benchmark.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import parser.JavaParserConstants;
+import parser.Token;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokenizzazione di tutto il corpus con JavaParserTokenManager, token
+ * speciali (commenti) compresi. Restituisce il numero di token.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LexerBenchmark {
+
+    private Corpus.Parsers parsers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        parsers = new Corpus.Parsers();
+    }
+
+    @Benchmark
+    public long tokenize(Corpus corpus) {
+        long tokens = 0;
+        for (ByteBuffer content : corpus.contents()) {
+            parsers.reset(content);
+            for (Token t = parsers.tokenManager.getNextToken(); t.kind != JavaParserConstants.EOF;
+                 t = parsers.tokenManager.getNextToken()) {
+                tokens++;
+                for (Token s = t.specialToken; s != null; s = s.specialToken) {
+                    tokens++;
+                }
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,47 @@
+package benchmark.jmh;
+
+import clean_metrics.ClassMetrics;
+import clean_metrics.Metric;
+import clean_metrics.MetricsCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Una metrica di MetricsCalculator alla volta, su tutte le classi del
+ * modello. Il calcolatore (e i suoi indici) e' costruito nel setup.
+ * DIT, che il calcolatore memorizza, ha un benchmark a parte (DitBenchmark).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+@State(Scope.Thread)
+public class MetricBenchmark {
+
+    @Param({"WMC", "NOC", "CBO", "AdvCBO", "RFC", "LCOM"})
+    public String metric;
+
+    private Metric selected;
+    private List<ClassMetrics> classes;
+    private MetricsCalculator calculator;
+
+    @Setup(Level.Trial)
+    public void setup(ProjectModel model) {
+        selected = Metric.parseList(metric).iterator().next();
+        classes = new ArrayList<>(model.project().values());
+        calculator = new MetricsCalculator(model.project());
+    }
+
+    @Benchmark
+    public long compute() {
+        long sum = 0;
+        for (ClassMetrics cm : classes) {
+            sum += calculator.compute(selected, cm);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,35 @@
+package benchmark.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import parser.ParseException;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JavaParser.CompilationUnit() su tutto il corpus, lexer e costruzione
+ * dell'AST compresi, con stream, token manager e parser riusati.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+@State(Scope.Thread)
+public class ParserBenchmark {
+
+    private Corpus.Parsers parsers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        parsers = new Corpus.Parsers();
+    }
+
+    @Benchmark
+    public void compilationUnit(Corpus corpus, Blackhole bh) throws ParseException {
+        for (ByteBuffer content : corpus.contents()) {
+            bh.consume(parsers.parse(content));
+        }
+    }
+}
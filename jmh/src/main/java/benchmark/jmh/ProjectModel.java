@@ -0,0 +1,38 @@
+package benchmark.jmh;
+
+import analyzer.ProjectAnalyzer;
+import clean_metrics.ClassMetrics;
+import clean_metrics.MetricVisitor;
+import clean_metrics.SymbolTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Modello di progetto del corpus, costruito una volta per prova come fa
+ * ProjectAnalyzer: visita di ogni file, merge e collegamento dei figli.
+ * Il calcolatore non lo modifica, quindi e' condiviso tra i thread.
+ */
+@State(Scope.Benchmark)
+public class ProjectModel {
+
+    private Map<String, ClassMetrics> project;
+
+    @Setup(Level.Trial)
+    public void build(Corpus corpus) throws Exception {
+        project = new HashMap<>();
+        SymbolTable symbols = new SymbolTable();
+        for (ByteBuffer content : corpus.contents()) {
+            MetricVisitor visitor = new MetricVisitor(symbols);
+            new Corpus.Parsers().parse(content).jjtAccept(visitor, null);
+            ProjectAnalyzer.mergeInto(project, visitor.getMetricsMap());
+        }
+        ProjectAnalyzer.linkChildren(project);
+    }
+
+    public Map<String, ClassMetrics> project() {
+        return project;
+    }
+}
@@ -0,0 +1,47 @@
+package benchmark.jmh;
+
+import clean_metrics.MetricVisitor;
+import clean_metrics.SymbolTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import parser.Node;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Visita di MetricVisitor sugli AST del corpus, parsati una volta nel
+ * setup: misura solo la raccolta dei dati per classe (log di debug
+ * disattivato, come di default).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+@State(Scope.Thread)
+public class VisitorBenchmark {
+
+    private final List<Node> roots = new ArrayList<>();
+    // condivisa tra le visite, come tra i file di un'analisi
+    private final SymbolTable symbols = new SymbolTable();
+
+    @Setup(Level.Trial)
+    public void setup(Corpus corpus) throws Exception {
+        // un parser per file: le radici restano valide dopo il parse successivo
+        for (ByteBuffer content : corpus.contents()) {
+            roots.add(new Corpus.Parsers().parse(content));
+        }
+    }
+
+    @Benchmark
+    public void metricVisitor(Blackhole bh) throws Exception {
+        for (Node root : roots) {
+            MetricVisitor visitor = new MetricVisitor(symbols);
+            root.jjtAccept(visitor, null);
+            bh.consume(visitor.getMetricsMap());
+        }
+    }
+}
@@ -1,83 +1,163 @@
-
-
+import analyzer.ProjectAnalyzer;
+import analyzer.ProjectWatcher;
+import analyzer.ResultCache;
+import analyzer.RunStatistics;
 import clean_metrics.MetricsCalculator;
 import clean_metrics.ClassMetrics;
-import clean_metrics.MetricVisitor;
-import parser.*;
-
+import clean_metrics.Metric;
+import clean_metrics.SummaryReporter;
+import log.Log;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class Main {
+
+    private static final String USAGE =
+            "Uso: java Main [--threads N] [--csv file.csv] [--compact-ast] [--metrics WMC,DIT,...] [--structure-only] [--lazy-bodies] [--pipeline [N]] [--cache dir] [--watch] [--stats file.json] [--log-level error|warn|info|debug] [--verbose] [--table] <file o directory>...";
+
     public static void main(String[] args) throws Exception {
-        System.out.println("Java Parser Version 1.1:  Reading from file ");
-        Node root = null;
-        JavaParser OOparser = new JavaParser("/Users/izzofrancesco/Desktop/JetbrainsProjects/OOAnalyzer/input/Esempio Java Project/prova/prova.java");
-        try {
-            root = OOparser.CompilationUnit();
-            System.out.println("Java Parser Version 1.1:  Java program parsed successfully.");
-        } catch (ParseException e) {
-            System.out.println(e.getMessage());
-            System.out.println("Java Parser Version 1.1:  Encountered errors during parse.");
+        List<Path> roots = new ArrayList<>();
+        int threads = Runtime.getRuntime().availableProcessors();
+        String csvFile = "output/metrics.csv";
+        boolean compactAst = false;
+        Set<Metric> metrics = Metric.all();
+        boolean lazyBodies = false;
+        int pipelineQueue = 0;
+        String cacheDir = null;
+        boolean watch = false;
+        String statsFile = null;
+        boolean table = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads":
+                    threads = Integer.parseInt(requireValue(args, ++i));
+                    break;
+                case "--csv":
+                    csvFile = requireValue(args, ++i);
+                    break;
+                case "--compact-ast":
+                    compactAst = true;
+                    break;
+                case "--metrics":
+                    metrics = Metric.parseList(requireValue(args, ++i));
+                    break;
+                case "--structure-only":
+                    metrics = Metric.STRUCTURAL;
+                    break;
+                case "--lazy-bodies":
+                    lazyBodies = true;
+                    break;
+                case "--watch":
+                    watch = true;
+                    break;
+                case "--log-level":
+                    Log.setLevel(Log.Level.parse(requireValue(args, ++i)));
+                    break;
+                case "--verbose":
+                    Log.setLevel(Log.Level.DEBUG);
+                    break;
+                case "--table":
+                    table = true;
+                    break;
+                case "--stats":
+                    statsFile = requireValue(args, ++i);
+                    break;
+                case "--cache":
+                    cacheDir = requireValue(args, ++i);
+                    break;
+                case "--pipeline":
+                    // capacita' della coda opzionale, di default due riepiloghi per thread
+                    if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
+                        pipelineQueue = Integer.parseInt(args[++i]);
+                    } else {
+                        pipelineQueue = -1;
+                    }
+                    break;
+                default:
+                    roots.add(Paths.get(args[i]));
+            }
+        }
+        if (roots.isEmpty()) {
+            roots.add(Paths.get("input"));
         }
 
+        List<Path> sources = ProjectAnalyzer.collectSources(roots);
+        Log.info("Java Parser Version 1.1:  Reading {} files with {} threads", sources.size(), threads);
+
+        RunStatistics stats = statsFile == null ? null : new RunStatistics();
+        ProjectAnalyzer analyzer = new ProjectAnalyzer(threads);
+        analyzer.setStatistics(stats);
+        analyzer.setCompactTree(compactAst);
+        analyzer.setMetrics(metrics);
+        analyzer.setLazyBodies(lazyBodies);
+        ResultCache cache = cacheDir == null ? null : new ResultCache(Paths.get(cacheDir));
+        analyzer.setCache(cache);
+        if (watch) {
+            Path csvPath = Paths.get(csvFile).toAbsolutePath();
+            Files.createDirectories(csvPath.getParent());
+            ProjectWatcher watcher = new ProjectWatcher(analyzer, roots, csvPath, metrics);
+            watcher.setTable(table);
+            watcher.run();
+            return;
+        }
 
-        /*
-        if(root != null) {
-            ((SimpleNode) root).dump("");
+        Map<String, ClassMetrics> metricsMap;
+        if (pipelineQueue != 0) {
+            metricsMap = analyzer.analyzeStreaming(sources, pipelineQueue > 0 ? pipelineQueue : 2 * threads);
         } else {
-            System.out.println("NOP");
+            metricsMap = analyzer.analyze(sources);
+        }
+        Log.info("Java Parser Version 1.1:  {} files parsed successfully, {} with errors.",
+                sources.size() - analyzer.getFailedFiles().size(), analyzer.getFailedFiles().size());
+        if (cache != null) {
+            Log.info("Java Parser Version 1.1:  cache hits {}, misses {}", cache.getHits(), cache.getMisses());
         }
-        */
-
-        MetricVisitor visitor = new MetricVisitor();
-        root.jjtAccept(visitor, null);
-        Map<String, ClassMetrics> metricsMap = visitor.getMetricsMap();
 
+        long start = System.nanoTime();
         MetricsCalculator calc = new MetricsCalculator(metricsMap);
-        calc.computeMetrics();
-        calc.exportMetricsToCSV("/Users/izzofrancesco/Desktop/JetbrainsProjects/OOAnalyzer/src/report/originale.csv");
-
-
-
-
-        Node root2 = null;
-        JavaParser OOparser2 = new JavaParser("/Users/izzofrancesco/Desktop/JetbrainsProjects/OOAnalyzer/input/Esempio Java Project/prova2/prova2.java");
-        try {
-            root2 = OOparser2.CompilationUnit();
-            System.out.println("Java Parser Version 1.1:  Java program parsed successfully.");
-        } catch (ParseException e) {
-            System.out.println(e.getMessage());
-            System.out.println("Java Parser Version 1.1:  Encountered errors during parse.");
+        calc.setTimed(stats != null);
+        calc.calculate();
+        long calculated = System.nanoTime();
+        // di default solo il riepilogo: la tabella per classe costa quanto il CSV
+        if (table || Log.isDebugEnabled()) {
+            calc.computeMetrics(metrics);
         }
-
-        MetricVisitor visitor2 = new MetricVisitor();
-        root2.jjtAccept(visitor2, null);
-        Map<String, ClassMetrics> metricsMap2 = visitor2.getMetricsMap();
-
-        MetricsCalculator calc2 = new MetricsCalculator(metricsMap2);
-        calc2.computeMetrics();
-        calc2.exportMetricsToCSV("/Users/izzofrancesco/Desktop/JetbrainsProjects/OOAnalyzer/src/report/chatGPT.csv");
-        /*
-        MetricVisitor visitor = new MetricVisitor();
-        assert root != null;
-        root.jjtAccept(visitor, null);
-
-        for (var entry : visitor.getMetricsMap().entrySet()) {
-            ClassMetrics m = entry.getValue();
-            System.out.println("Classe: " + entry.getKey());
-            System.out.println("  DIT: " + m.getDIT(visitor.getMetricsMap()));
-            System.out.println("  NOC: " + m.getNOC());
-            System.out.println("  RFC: " + m.getRFC());
-            System.out.println("  Attributi: " + m.getAttributeCount());
-            System.out.println("CBO className raw: " + entry.getKey());
-            System.out.println("  CBO: " + m.getCBO());
-            System.out.println("  LCOM: " + m.getLcom());
-
+        new SummaryReporter(metrics).report(calc.calculate());
+        long reported = System.nanoTime();
+
+        Path csvPath = Paths.get(csvFile).toAbsolutePath();
+        Files.createDirectories(csvPath.getParent());
+        calc.exportMetricsToCSV(csvPath.toString(), metrics);
+
+        if (stats != null) {
+            stats.addTime(RunStatistics.Phase.METRICS, calculated - start);
+            stats.addTime(RunStatistics.Phase.REPORT, reported - calculated);
+            stats.addTime(RunStatistics.Phase.CSV_EXPORT, System.nanoTime() - reported);
+            for (Metric metric : Metric.values()) {
+                stats.setMetricNanos(metric, calc.getMetricNanos(metric));
+            }
+            stats.setThreads(threads);
+            stats.setProjectClasses(metricsMap.size());
+            stats.finish();
+            Path statsPath = Paths.get(statsFile).toAbsolutePath();
+            Files.createDirectories(statsPath.getParent());
+            stats.writeJson(statsPath);
+            Log.info("Java Parser Version 1.1:  statistics written to {}", statsPath);
         }
-        //CKMetricsVisitor visitor = new CKMetricsVisitor();
-        //root.jjtAccept(visitor, null);
+    }
 
-         */
+    private static String requireValue(String[] args, int i) {
+        if (i >= args.length) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        return args[i];
     }
 }
-
@@ -0,0 +1,472 @@
+package analyzer;
+
+import clean_metrics.ClassMetrics;
+import clean_metrics.CompactMetricVisitor;
+import clean_metrics.Metric;
+import clean_metrics.MetricVisitor;
+import clean_metrics.SymbolTable;
+import jfr.ParseFailureEvent;
+import jfr.ParseFileEvent;
+import jfr.VisitorPassEvent;
+import log.Log;
+import parser.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Analizza in parallelo tutti i file .java di uno o piu' percorsi.
+ * Ogni worker riusa il proprio JavaParser (STATIC=false) tramite ReInit e legge
+ * il file intero con un ArrayCharStream, senza ricopiare buffer durante il lexing;
+ * le mappe prodotte per file vengono poi unite in un unico modello di progetto
+ * su cui MetricsCalculator puo' calcolare le metriche.
+ */
+public class ProjectAnalyzer {
+
+    private final int threads;
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+    private volatile boolean compactTree;
+    private volatile Set<Metric> metrics = Metric.all();
+    private volatile boolean lazyBodies;
+    private volatile ResultCache cache;
+    private volatile RunStatistics stats;
+    // tabella dei simboli dei ClassMetrics prodotti da questo analyzer
+    private volatile SymbolTable symbols = new SymbolTable();
+
+    // segnale di fine dei worker nella coda della pipeline (confronto per identita')
+    private static final Map<String, ClassMetrics> END_OF_WORKER = new HashMap<>();
+    private final List<Path> failedFiles = Collections.synchronizedList(new ArrayList<>());
+
+    public ProjectAnalyzer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ProjectAnalyzer(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be >= 1: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    // ----------------------------
+    // RACCOLTA FILE
+    // ----------------------------
+    public static List<Path> collectSources(List<Path> roots) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        for (Path root : roots) {
+            if (Files.isDirectory(root)) {
+                try (Stream<Path> walk = Files.walk(root)) {
+                    sources.addAll(walk
+                            .filter(Files::isRegularFile)
+                            .filter(p -> p.getFileName().toString().endsWith(".java"))
+                            .sorted()
+                            .collect(Collectors.toList()));
+                }
+            } else if (Files.isRegularFile(root)) {
+                sources.add(root);
+            } else {
+                throw new IOException("Percorso non trovato: " + root);
+            }
+        }
+        return sources;
+    }
+
+    // ----------------------------
+    // ANALISI
+    // ----------------------------
+    public Map<String, ClassMetrics> analyze(List<Path> files) throws InterruptedException {
+        Map<Path, Map<String, ClassMetrics>> perFile = analyzeEach(files);
+        long start = System.nanoTime();
+        Map<String, ClassMetrics> project = new HashMap<>();
+        for (Map<String, ClassMetrics> fileMetrics : perFile.values()) {
+            mergeInto(project, fileMetrics);
+        }
+        linkChildren(project);
+        recordMerge(System.nanoTime() - start);
+        return project;
+    }
+
+    // Riepilogo per classe di ogni file, nell'ordine dei file (cosi' l'unione
+    // e' deterministica); un file con errori ha una mappa vuota.
+    public Map<Path, Map<String, ClassMetrics>> analyzeEach(List<Path> files) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Map<String, ClassMetrics>>> results = new ArrayList<>(files.size());
+            for (Path file : files) {
+                results.add(pool.submit(() -> analyzeFile(file)));
+            }
+
+            Map<Path, Map<String, ClassMetrics>> perFile = new LinkedHashMap<>();
+            for (int i = 0; i < files.size(); i++) {
+                try {
+                    perFile.put(files.get(i), results.get(i).get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Errore inatteso durante l'analisi", e.getCause());
+                }
+            }
+            return perFile;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Modalita' pipeline: i worker prendono i file uno alla volta, ne producono
+    // il riepilogo per classe e lo passano su una coda limitata all'aggregatore
+    // (questo thread), che lo unisce subito al modello. AST e token di un file
+    // vengono rilasciati appena visitati e i riepiloghi in attesa sono al piu'
+    // queueCapacity, quindi la memoria dipende dal numero di classi e non dalla
+    // dimensione totale dei sorgenti. L'ordine di unione e' quello di completamento.
+    public Map<String, ClassMetrics> analyzeStreaming(List<Path> files, int queueCapacity) throws InterruptedException {
+        BlockingQueue<Map<String, ClassMetrics>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger nextFile = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                pool.execute(() -> {
+                    try {
+                        int i;
+                        while ((i = nextFile.getAndIncrement()) < files.size()) {
+                            Map<String, ClassMetrics> summary = analyzeFile(files.get(i));
+                            if (!summary.isEmpty()) {
+                                queue.put(summary);
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (RuntimeException | Error e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        signalEnd(queue);
+                    }
+                });
+            }
+
+            Map<String, ClassMetrics> project = new HashMap<>();
+            long mergeNanos = 0;
+            int running = threads;
+            while (running > 0) {
+                Map<String, ClassMetrics> summary = queue.take();
+                if (summary == END_OF_WORKER) {
+                    running--;
+                } else {
+                    long start = System.nanoTime();
+                    mergeInto(project, summary);
+                    mergeNanos += System.nanoTime() - start;
+                }
+            }
+            if (failure.get() != null) {
+                throw new IllegalStateException("Errore inatteso durante l'analisi", failure.get());
+            }
+            long start = System.nanoTime();
+            linkChildren(project);
+            recordMerge(mergeNanos + System.nanoTime() - start);
+            return project;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void recordMerge(long nanos) {
+        RunStatistics stats = this.stats;
+        if (stats != null) {
+            stats.addTime(RunStatistics.Phase.MERGE, nanos);
+        }
+    }
+
+    private static void signalEnd(BlockingQueue<Map<String, ClassMetrics>> queue) {
+        try {
+            queue.put(END_OF_WORKER);
+        } catch (InterruptedException e) {
+            // l'aggregatore e' gia' uscito (shutdownNow), nessuno aspetta il segnale
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Map<String, ClassMetrics> analyzeFile(Path file) {
+        Worker worker = workers.get();
+        SymbolTable symbols = this.symbols;
+        RunStatistics stats = this.stats;
+        RunStatistics.FileStats fileStats = stats == null ? null : new RunStatistics.FileStats(file);
+        ParseFailureEvent failureEvent = new ParseFailureEvent();
+        failureEvent.begin();
+        try {
+            long start = System.nanoTime();
+            ByteBuffer content = ArrayCharStream.readFile(file);
+            long read = System.nanoTime();
+            if (fileStats != null) {
+                fileStats.bytes = content.remaining();
+                fileStats.readNanos = read - start;
+            }
+            // corpi saltati se nessuna metrica richiesta li usa, rinviati con lazyBodies
+            boolean skip = Metric.STRUCTURAL.containsAll(metrics);
+            boolean lazy = !skip && lazyBodies && !compactTree;
+            byte[] key = null;
+            if (cache != null) {
+                key = ResultCache.key(content, skip);
+                Map<String, ClassMetrics> cached = cache.load(key, symbols);
+                if (stats != null) {
+                    stats.addTime(RunStatistics.Phase.CACHE, System.nanoTime() - read);
+                }
+                if (cached != null) {
+                    if (fileStats != null) {
+                        fileStats.cached = true;
+                        fileStats.classes = cached.size();
+                        stats.addFile(fileStats);
+                    }
+                    return cached;
+                }
+            }
+
+            boolean compact = compactTree && !lazy;
+            ParseFileEvent parseEvent = new ParseFileEvent();
+            parseEvent.begin();
+            long parseStart = System.nanoTime();
+            Node root = worker.parse(content, compact, skip || lazy, lazy);
+            long parsed = System.nanoTime();
+            if (lazy) {
+                // i corpi si parsano in parallelo solo nei file con molti metodi
+                worker.bodies.parse(ForkJoinPool.commonPool(), threads);
+            }
+            long bodiesParsed = System.nanoTime();
+            parseEvent.end();
+            long tokens = -1;
+            if (parseEvent.shouldCommit()) {
+                tokens = worker.countTokens();
+                parseEvent.file = file.toString();
+                parseEvent.bytes = content.remaining();
+                parseEvent.tokens = tokens;
+                parseEvent.bodiesSkipped = skip;
+                parseEvent.commit();
+            }
+            if (fileStats != null) {
+                fileStats.parseNanos = parsed - parseStart;
+                fileStats.bodiesNanos = bodiesParsed - parsed;
+                fileStats.tokens = tokens >= 0 ? tokens : worker.countTokens();
+                fileStats.nodes = compact ? worker.tree.size() : countNodes(root);
+            }
+
+            VisitorPassEvent visitEvent = new VisitorPassEvent();
+            visitEvent.begin();
+            long visitStart = System.nanoTime();
+            Map<String, ClassMetrics> summary;
+            if (compact) {
+                CompactMetricVisitor visitor = new CompactMetricVisitor(symbols);
+                worker.tree.accept(visitor);
+                summary = visitor.getMetricsMap();
+            } else {
+                MetricVisitor visitor = new MetricVisitor(symbols);
+                root.jjtAccept(visitor, null);
+                summary = visitor.getMetricsMap();
+            }
+            long visited = System.nanoTime();
+            visitEvent.end();
+            if (visitEvent.shouldCommit()) {
+                visitEvent.file = file.toString();
+                visitEvent.visitor = compact ? "CompactMetricVisitor" : "MetricVisitor";
+                visitEvent.classes = summary.size();
+                visitEvent.commit();
+            }
+
+            if (cache != null) {
+                storeInCache(file, key, summary);
+                if (stats != null) {
+                    stats.addTime(RunStatistics.Phase.CACHE, System.nanoTime() - visited);
+                }
+            }
+            if (fileStats != null) {
+                fileStats.visitNanos = visited - visitStart;
+                fileStats.classes = summary.size();
+                stats.addFile(fileStats);
+            }
+            return summary;
+        } catch (ParseException | TokenMgrError e) {
+            failedFiles.add(file);
+            failureEvent.end();
+            if (failureEvent.shouldCommit()) {
+                failureEvent.file = file.toString();
+                failureEvent.error = e.getClass().getSimpleName();
+                failureEvent.message = e.getMessage();
+                failureEvent.commit();
+            }
+            Log.info("{}: {}", file, e.getMessage());
+            Log.info("Java Parser Version 1.1:  Encountered errors during parse.");
+        } catch (Exception e) {
+            failedFiles.add(file);
+            Log.error("Errore durante l'analisi di {}: {}", file, e);
+        } finally {
+            // anche dopo un errore: l'AST parziale e i token non restano al worker
+            worker.release();
+        }
+        if (fileStats != null) {
+            fileStats.failed = true;
+            stats.addFile(fileStats);
+        }
+        return Collections.emptyMap();
+    }
+
+    // nodi dell'AST, visita iterativa (gli alberi possono essere molto profondi)
+    private static long countNodes(Node root) {
+        long nodes = 0;
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            nodes++;
+            for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+                pending.push(node.jjtGetChild(i));
+            }
+        }
+        return nodes;
+    }
+
+    // stato riusato da ogni thread: stream, token manager e parser (STATIC=false)
+    private static final class Worker {
+        final ArrayCharStream stream = new ArrayCharStream();
+        final ArrayTokenManager tokenManager = new ArrayTokenManager(stream);
+        final JavaParser parser = new JavaParser(tokenManager);
+        // arena dell'albero compatto, riusata da un file all'altro
+        final CompactTree tree = new CompactTree();
+        // corpi rinviati dal passo strutturale
+        final LazyBodies bodies = new LazyBodies();
+
+        Worker() {
+            // nomi ripetuti condivisi tra token e file, commenti senza String
+            stream.setTokenImages(new TokenImages());
+        }
+
+        // token fittizio da cui parte la catena dei token del file
+        private Token head;
+
+        Node parse(ByteBuffer content, boolean compact, boolean skipBodies, boolean lazy)
+                throws ParseException {
+            stream.ReInit(content.duplicate(), StandardCharsets.UTF_8);
+            tokenManager.ReInit(stream);
+            parser.ReInit(tokenManager);
+            head = parser.token;
+            parser.setCompactTree(compact ? tree : null);
+            parser.setSkipBodies(skipBodies);
+            bodies.clear();
+            parser.setLazyBodies(lazy ? bodies : null);
+            return parser.CompilationUnit();
+        }
+
+        // il parser tiene la radice sullo stack di jjtree e i corpi rinviati
+        // i token del file: li rilascia prima del file successivo
+        void release() {
+            parser.ReInit(tokenManager);
+            bodies.clear();
+            head = null;
+        }
+
+        // token del file appena parsato, commenti esclusi
+        long countTokens() {
+            long tokens = 0;
+            for (Token t = head.next; t != null && t.kind != JavaParserConstants.EOF; t = t.next) {
+                tokens++;
+            }
+            return tokens;
+        }
+    }
+
+    // un errore di scrittura della cache non invalida l'analisi del file
+    private void storeInCache(Path file, byte[] key, Map<String, ClassMetrics> summary) {
+        try {
+            cache.store(key, summary);
+        } catch (IOException e) {
+            Log.warn("Impossibile scrivere in cache il risultato di {}: {}", file, e);
+        }
+    }
+
+    // cache su disco dei riepiloghi per file, null per disattivarla
+    public void setCache(ResultCache cache) {
+        this.cache = cache;
+    }
+
+    // albero compatto (CompactTree) al posto dei nodi SimpleNode collegati
+    public void setCompactTree(boolean compactTree) {
+        this.compactTree = compactTree;
+    }
+
+    // metriche che verranno riportate: se sono tutte strutturali (WMC, DIT,
+    // NOC) i corpi di metodi, costruttori e inizializzatori vengono saltati
+    // e il modello ha solo classi, extends e metodi
+    public void setMetrics(Set<Metric> metrics) {
+        this.metrics = EnumSet.copyOf(metrics);
+    }
+
+    // i corpi vengono prima saltati e registrati (LazyBodies), poi parsati
+    // solo se una metrica richiesta li usa, in parallelo nei file grandi;
+    // l'albero finale e' lo stesso del parsing completo. Ignorato con
+    // l'albero compatto, che non si puo' completare dopo.
+    public void setLazyBodies(boolean lazyBodies) {
+        this.lazyBodies = lazyBodies;
+    }
+
+    // tempi per fase e contatori per file, null per non raccoglierli
+    public void setStatistics(RunStatistics stats) {
+        this.stats = stats;
+    }
+
+    public SymbolTable getSymbols() {
+        return symbols;
+    }
+
+    // nuova tabella per le analisi successive; i ClassMetrics gia' prodotti
+    // restano sulla vecchia e non si possono piu' unire ai nuovi
+    public void setSymbols(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    public List<Path> getFailedFiles() {
+        return new ArrayList<>(failedFiles);
+    }
+
+    // toglie il file dai falliti; true se la sua ultima analisi era fallita
+    // (in --watch lo stesso file viene riparsato a ogni salvataggio)
+    public boolean clearFailure(Path file) {
+        return failedFiles.removeIf(file::equals);
+    }
+
+    // ----------------------------
+    // MODELLO DI PROGETTO
+    // ----------------------------
+    public static void mergeInto(Map<String, ClassMetrics> project, Map<String, ClassMetrics> fileMetrics) {
+        for (ClassMetrics cm : fileMetrics.values()) {
+            ClassMetrics existing = project.putIfAbsent(cm.getClassName(), cm);
+            if (existing != null) {
+                existing.mergeFrom(cm);
+            }
+        }
+    }
+
+    // ricalcola i figli (NOC) sull'intero progetto: una classe e il suo padre
+    // possono trovarsi in file diversi
+    public static void linkChildren(Map<String, ClassMetrics> project) {
+        for (ClassMetrics cm : project.values()) {
+            cm.getChildren().clear();
+        }
+        for (ClassMetrics potentialChild : project.values()) {
+            String parent = potentialChild.getParentClass();
+            if (parent != null && project.containsKey(parent)) {
+                project.get(parent).getChildren().add(potentialChild.getClassId());
+            }
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package analyzer;
+
+import clean_metrics.ClassMetrics;
+import clean_metrics.ConsoleReporter;
+import clean_metrics.CsvReporter;
+import clean_metrics.Metric;
+import clean_metrics.MetricsCalculator;
+import clean_metrics.MetricsResult;
+import clean_metrics.SummaryReporter;
+import clean_metrics.SymbolTable;
+import log.Log;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Modalita' watch: dopo un'analisi completa resta in ascolto sulle directory
+ * dei sorgenti (WatchService) e, a ogni salvataggio, riparsa solo i file
+ * modificati, sostituisce i loro contributi nel modello di progetto e
+ * ricalcola con MetricsCalculator.updateClass/removeClass solo le righe
+ * delle classi interessate (le classi dichiarate nei file modificati e
+ * quelle che ne dipendono per NOC, DIT e AdvCBO). Le altre righe restano
+ * quelle gia' calcolate.
+ */
+public class ProjectWatcher {
+
+    // attesa dopo il primo evento per raccogliere le raffiche di un salvataggio
+    // (file temporaneo + rename, piu' file salvati insieme)
+    static final long SETTLE_MILLIS = 20;
+
+    // i nomi di classi, metodi e campi spariti (rinominati, file cancellati)
+    // restano nella tabella dei simboli dell'analyzer: oltre il doppio dei
+    // simboli vivi (piu' questo margine) il modello passa a una tabella nuova
+    static final int COMPACT_SLACK = 1024;
+
+    private final ProjectAnalyzer analyzer;
+    // radici assolute e normalizzate: sono i percorsi che restituisce il
+    // WatchService, quindi anche le chiavi di contributions
+    private final List<Path> roots = new ArrayList<>();
+    private final Set<Path> fileRoots = new HashSet<>();
+    private final Path csvFile;
+    private final Set<Metric> metrics;
+    // tabella per classe su console (--table), altrimenti solo a livello debug
+    private boolean table;
+
+    // contributo di ogni file e file che contribuiscono a ogni classe
+    private final Map<Path, Map<String, ClassMetrics>> contributions = new HashMap<>();
+    private final Map<String, SortedSet<Path>> filesByClass = new HashMap<>();
+
+    private final Map<String, ClassMetrics> project = new HashMap<>();
+    private MetricsCalculator calculator;
+    // simboli della tabella dopo l'analisi completa o l'ultima compattazione
+    private int liveSymbols;
+    // righe del CSV ordinate per nome di classe, aggiornate solo per le
+    // classi ricalcolate o rimosse
+    private final SortedMap<String, MetricsResult> csvRows = new TreeMap<>();
+
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private WatchService watchService;
+
+    public ProjectWatcher(ProjectAnalyzer analyzer, List<Path> roots, Path csvFile) {
+        this(analyzer, roots, csvFile, Metric.all());
+    }
+
+    // riporta solo le metriche indicate (ad es. Metric.STRUCTURAL se
+    // l'analizzatore salta i corpi dei metodi)
+    public ProjectWatcher(ProjectAnalyzer analyzer, List<Path> roots, Path csvFile, Set<Metric> metrics) {
+        this.analyzer = analyzer;
+        for (Path root : roots) {
+            Path absolute = root.toAbsolutePath().normalize();
+            this.roots.add(absolute);
+            if (!Files.isDirectory(absolute)) {
+                fileRoots.add(absolute);
+            }
+        }
+        this.csvFile = csvFile;
+        this.metrics = EnumSet.copyOf(metrics);
+    }
+
+    // Analisi completa iniziale, poi ciclo di aggiornamento fino all'interruzione.
+    public void run() throws IOException, InterruptedException {
+        watchService = FileSystems.getDefault().newWatchService();
+        try {
+            for (Path root : roots) {
+                if (fileRoots.contains(root)) {
+                    // un file: basta la sua directory, senza sottodirectory
+                    register(root.getParent());
+                } else {
+                    registerAll(root);
+                }
+            }
+
+            List<Path> sources = ProjectAnalyzer.collectSources(roots);
+            List<MetricsResult> rows = update(new LinkedHashSet<>(sources), analyzer.analyzeEach(sources));
+            printTable(rows);
+            new SummaryReporter(metrics).report(rows);
+            writeCsv();
+            Log.info("Java Parser Version 1.1:  Watching {} files, {} classes", contributions.size(), project.size());
+
+            while (true) {
+                Set<Path> changed = nextChanges();
+                if (changed.isEmpty()) {
+                    // eventi su file che non sono sorgenti (per esempio il CSV stesso)
+                    continue;
+                }
+                long start = System.nanoTime();
+                List<MetricsResult> refreshed = update(changed, Collections.emptyMap());
+                long recomputed = System.nanoTime();
+                writeCsv();
+                long written = System.nanoTime();
+
+                printTable(refreshed);
+                Log.info("Java Parser Version 1.1:  {} files changed, {} classes recomputed in {} ms",
+                        changed.size(), refreshed.size(), TimeUnit.NANOSECONDS.toMillis(recomputed - start));
+                Log.info("Java Parser Version 1.1:  CSV rewritten in {} ms", TimeUnit.NANOSECONDS.toMillis(written - recomputed));
+            }
+        } finally {
+            watchService.close();
+        }
+    }
+
+    public void setTable(boolean table) {
+        this.table = table;
+    }
+
+    private void printTable(List<MetricsResult> rows) {
+        if (table || Log.isDebugEnabled()) {
+            new ConsoleReporter(System.out, metrics).report(rows);
+        }
+    }
+
+    // ----------------------------
+    // EVENTI
+    // ----------------------------
+    private void registerAll(Path dir) throws IOException {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            for (Path d : walk.filter(Files::isDirectory).collect(Collectors.toList())) {
+                register(d);
+            }
+        }
+    }
+
+    private void register(Path dir) throws IOException {
+        directories.put(dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), dir);
+    }
+
+    // blocca fino al primo evento, poi raccoglie quelli che arrivano entro SETTLE_MILLIS
+    private Set<Path> nextChanges() throws IOException, InterruptedException {
+        Set<Path> changed = new LinkedHashSet<>();
+        WatchKey key = watchService.take();
+        while (key != null) {
+            Path dir = directories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    // eventi persi: si riconsiderano tutti i file
+                    changed.addAll(contributions.keySet());
+                    changed.addAll(ProjectAnalyzer.collectSources(roots));
+                    continue;
+                }
+                if (dir == null) {
+                    continue;
+                }
+                Path path = dir.resolve((Path) event.context());
+                if (event.kind() == ENTRY_CREATE && Files.isDirectory(path) && inDirectoryRoot(path)) {
+                    // i file creati prima della registrazione non generano eventi
+                    registerAll(path);
+                    try (Stream<Path> walk = Files.walk(path)) {
+                        walk.filter(this::isSource).forEach(changed::add);
+                    }
+                } else if (event.kind() == ENTRY_DELETE && !path.toString().endsWith(".java")) {
+                    // directory rimossa: spariscono tutti i suoi file
+                    for (Path file : contributions.keySet()) {
+                        if (file.startsWith(path)) {
+                            changed.add(file);
+                        }
+                    }
+                } else if (isSource(path) || contributions.containsKey(path)) {
+                    changed.add(path);
+                }
+            }
+            if (!key.reset()) {
+                directories.remove(key);
+            }
+            key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return changed;
+    }
+
+    private boolean isSource(Path path) {
+        return path.toString().endsWith(".java") && (fileRoots.contains(path) || inDirectoryRoot(path));
+    }
+
+    private boolean inDirectoryRoot(Path path) {
+        for (Path root : roots) {
+            if (!fileRoots.contains(root) && path.startsWith(root)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ----------------------------
+    // AGGIORNAMENTO DEL MODELLO
+    // ----------------------------
+    // Sostituisce i contributi dei file indicati (riparsandoli, se non gia'
+    // analizzati in analyzed) e restituisce le righe ricalcolate. Un file con
+    // errori di parsing mantiene il contributo precedente; solo un file
+    // cancellato perde le sue classi.
+    List<MetricsResult> update(Set<Path> changed, Map<Path, Map<String, ClassMetrics>> analyzed) throws IOException {
+        Set<String> touched = new HashSet<>();
+        for (Path file : changed) {
+            Map<String, ClassMetrics> current = analyzed.get(file);
+            if (current == null && Files.isRegularFile(file)) {
+                current = analyzer.analyzeFile(file);
+            }
+            if (analyzer.clearFailure(file) && contributions.containsKey(file)) {
+                // un salvataggio a meta' modifica che non si parsa: restano le
+                // classi dell'ultima versione buona, finche' il file esiste
+                Log.warn("{}: errori di parsing, resta l'ultima versione analizzata ({} classi)",
+                        file, contributions.get(file).size());
+                continue;
+            }
+
+            Map<String, ClassMetrics> old = contributions.remove(file);
+            if (old != null) {
+                for (String className : old.keySet()) {
+                    filesByClass.get(className).remove(file);
+                    touched.add(className);
+                }
+            }
+            if (current != null) {
+                contributions.put(file, current);
+                for (String className : current.keySet()) {
+                    filesByClass.computeIfAbsent(className, k -> new TreeSet<>()).add(file);
+                    touched.add(className);
+                }
+            }
+        }
+
+        // le dipendenze tra classi (padri, figli, coupling) sono seguite
+        // da MetricsCalculator, che invalida solo le righe interessate
+        if (calculator == null) {
+            createCalculator(touched);
+            liveSymbols = analyzer.getSymbols().size();
+        } else {
+            for (String className : touched) {
+                ClassMetrics merged = rebuild(className);
+                if (merged != null) {
+                    calculator.updateClass(merged);
+                } else {
+                    calculator.removeClass(className);
+                    csvRows.remove(className);
+                }
+            }
+        }
+
+        List<MetricsResult> refreshed = calculator.recalculate();
+        for (MetricsResult row : refreshed) {
+            csvRows.put(row.getClassName(), row);
+        }
+        if (analyzer.getSymbols().size() > 2 * liveSymbols + COMPACT_SLACK) {
+            compactSymbols();
+        }
+        return refreshed;
+    }
+
+    private void createCalculator(Collection<String> classNames) {
+        for (String className : classNames) {
+            ClassMetrics merged = rebuild(className);
+            if (merged != null) {
+                project.put(className, merged);
+            }
+        }
+        ProjectAnalyzer.linkChildren(project);
+        calculator = new MetricsCalculator(project);
+    }
+
+    // Copia i contributi su una tabella nuova, che contiene solo i nomi
+    // ancora usati, e ricostruisce modello e calcolatore senza riparsare.
+    // Le righe ricalcolate sono uguali a quelle che sostituiscono.
+    private void compactSymbols() {
+        SymbolTable fresh = new SymbolTable();
+        for (Map.Entry<Path, Map<String, ClassMetrics>> entry : contributions.entrySet()) {
+            Map<String, ClassMetrics> copy = new HashMap<>();
+            for (ClassMetrics cm : entry.getValue().values()) {
+                copy.put(cm.getClassName(), cm.copyTo(fresh));
+            }
+            entry.setValue(copy);
+        }
+        Log.debug("Tabella dei simboli compattata: {} -> {} nomi", analyzer.getSymbols().size(), fresh.size());
+        analyzer.setSymbols(fresh);
+        liveSymbols = fresh.size();
+
+        project.clear();
+        createCalculator(new ArrayList<>(filesByClass.keySet()));
+        for (MetricsResult row : calculator.recalculate()) {
+            csvRows.put(row.getClassName(), row);
+        }
+    }
+
+    // unione dei contributi di una classe nell'ordine dei file, come in analyze
+    private ClassMetrics rebuild(String className) {
+        SortedSet<Path> files = filesByClass.get(className);
+        if (files == null || files.isEmpty()) {
+            filesByClass.remove(className);
+            return null;
+        }
+        ClassMetrics merged = new ClassMetrics(analyzer.getSymbols(), className);
+        for (Path file : files) {
+            merged.mergeFrom(contributions.get(file).get(className));
+        }
+        return merged;
+    }
+
+    // il file viene riscritto completo, ma dalle righe gia' ordinate
+    private void writeCsv() throws IOException {
+        new CsvReporter(csvFile.toString(), metrics).report(new ArrayList<>(csvRows.values()));
+    }
+
+    public Map<String, ClassMetrics> getProject() {
+        return Collections.unmodifiableMap(project);
+    }
+}
@@ -0,0 +1,244 @@
+package analyzer;
+
+import clean_metrics.ClassMetrics;
+import clean_metrics.IntObjectMap;
+import clean_metrics.IntSet;
+import clean_metrics.SymbolTable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache su disco dei riepiloghi per file (i ClassMetrics prodotti da MetricVisitor),
+ * indicizzata dall'hash SHA-256 del contenuto del file e della versione
+ * dell'analizzatore. Un file non modificato non viene piu' parsato: si rilegge
+ * il suo riepilogo e si ripete solo la fase tra classi (MetricsCalculator).
+ *
+ * Formato di una voce (varint dove indicato):
+ *   MAGIC, VERSION,
+ *   tabella delle stringhe: n, n stringhe UTF,
+ *   n classi: nome, padre (+1, 0 = nessuno), campi, metodi, classi accoppiate,
+ *   metodi invocati, metodo -> campi usati.
+ * Ogni stringa dopo la tabella e' un indice varint nella tabella.
+ */
+public class ResultCache {
+
+    // da incrementare quando cambiano grammatica, MetricVisitor o formato:
+    // entra nella chiave, quindi le voci vecchie non vengono piu' trovate
+    static final int VERSION = 1;
+    private static final int MAGIC = 0x4F4F4143; // "OOAC"
+
+    private final Path directory;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResultCache(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+    }
+
+    // ----------------------------
+    // CHIAVE
+    // ----------------------------
+    public static byte[] key(ByteBuffer content) {
+        return key(content, false);
+    }
+
+    // i riepiloghi ottenuti saltando i corpi dei metodi sono incompleti:
+    // hanno chiavi distinte da quelli dell'analisi completa
+    public static byte[] key(ByteBuffer content, boolean bodiesSkipped) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(("OOAnalyzer/" + VERSION).getBytes(StandardCharsets.UTF_8));
+            if (bodiesSkipped) {
+                digest.update("/structure".getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update(content.duplicate());
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 non disponibile", e);
+        }
+    }
+
+    private Path entry(byte[] key) {
+        StringBuilder hex = new StringBuilder(key.length * 2);
+        for (byte b : key) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        // due livelli per non avere centinaia di migliaia di file in una directory
+        return directory.resolve(hex.substring(0, 2)).resolve(hex.substring(2) + ".bin");
+    }
+
+    // ----------------------------
+    // LETTURA / SCRITTURA
+    // ----------------------------
+    // null se la voce non esiste o non e' leggibile (viene trattata come assente);
+    // i nomi vengono internati in symbols
+    public Map<String, ClassMetrics> load(byte[] key, SymbolTable symbols) {
+        Path file = entry(key);
+        if (!Files.isRegularFile(file)) {
+            misses.increment();
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            Map<String, ClassMetrics> metrics = read(in, symbols);
+            hits.increment();
+            return metrics;
+        } catch (IOException | RuntimeException e) {
+            misses.increment();
+            return null;
+        }
+    }
+
+    public void store(byte[] key, Map<String, ClassMetrics> metrics) throws IOException {
+        Path file = entry(key);
+        Files.createDirectories(file.getParent());
+        // scrittura su file temporaneo e rename atomico: piu' worker possono
+        // scrivere la stessa voce (file identici) senza lasciarla a meta'
+        Path tmp = Files.createTempFile(file.getParent(), "entry", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                write(out, metrics);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    // ----------------------------
+    // FORMATO
+    // ----------------------------
+    // gli id della SymbolTable valgono solo nel processo corrente: su disco
+    // si scrivono i nomi, in una tabella locale alla voce
+    static void write(DataOutputStream out, Map<String, ClassMetrics> metrics) throws IOException {
+        Map<String, Integer> table = new LinkedHashMap<>();
+        for (ClassMetrics cm : metrics.values()) {
+            SymbolTable symbols = cm.getSymbols();
+            intern(table, cm.getClassName());
+            if (cm.getParentClass() != null) {
+                intern(table, cm.getParentClass());
+            }
+            cm.getFields().forEach(id -> intern(table, symbols.name(id)));
+            cm.getMethods().forEach(id -> intern(table, symbols.name(id)));
+            cm.getCoupledClasses().forEach(id -> intern(table, symbols.name(id)));
+            cm.getInvokedMethods().forEach(id -> intern(table, symbols.name(id)));
+            cm.getMethodToAccessedFields().forEach((method, accessed) -> {
+                intern(table, symbols.name(method));
+                accessed.forEach(id -> intern(table, symbols.name(id)));
+            });
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeVarInt(out, table.size());
+        for (String s : table.keySet()) {
+            out.writeUTF(s);
+        }
+
+        writeVarInt(out, metrics.size());
+        for (ClassMetrics cm : metrics.values()) {
+            SymbolTable symbols = cm.getSymbols();
+            writeVarInt(out, table.get(cm.getClassName()));
+            writeVarInt(out, cm.getParentClass() == null ? 0 : table.get(cm.getParentClass()) + 1);
+            writeSet(out, table, symbols, cm.getFields());
+            writeSet(out, table, symbols, cm.getMethods());
+            writeSet(out, table, symbols, cm.getCoupledClasses());
+            writeSet(out, table, symbols, cm.getInvokedMethods());
+            IntObjectMap<IntSet> accessedFields = cm.getMethodToAccessedFields();
+            writeVarInt(out, accessedFields.size());
+            for (int method : accessedFields.keys()) {
+                writeVarInt(out, table.get(symbols.name(method)));
+                writeSet(out, table, symbols, accessedFields.get(method));
+            }
+        }
+    }
+
+    static Map<String, ClassMetrics> read(DataInputStream in, SymbolTable symbols) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Voce di cache non valida");
+        }
+        String[] table = new String[readVarInt(in)];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = in.readUTF();
+        }
+
+        int classes = readVarInt(in);
+        Map<String, ClassMetrics> metrics = new HashMap<>();
+        for (int c = 0; c < classes; c++) {
+            ClassMetrics cm = new ClassMetrics(symbols, table[readVarInt(in)]);
+            int parent = readVarInt(in);
+            if (parent != 0) {
+                cm.setParentClass(table[parent - 1]);
+            }
+            for (int n = readVarInt(in); n > 0; n--) {
+                cm.addField(table[readVarInt(in)]);
+            }
+            for (int n = readVarInt(in); n > 0; n--) {
+                cm.addMethod(table[readVarInt(in)]);
+            }
+            for (int n = readVarInt(in); n > 0; n--) {
+                cm.addCoupledClass(table[readVarInt(in)]);
+            }
+            for (int n = readVarInt(in); n > 0; n--) {
+                cm.addInvokedMethod(table[readVarInt(in)]);
+            }
+            for (int m = readVarInt(in); m > 0; m--) {
+                String method = table[readVarInt(in)];
+                for (int n = readVarInt(in); n > 0; n--) {
+                    cm.addMethodAccessedField(method, table[readVarInt(in)]);
+                }
+            }
+            metrics.put(cm.getClassName(), cm);
+        }
+        return metrics;
+    }
+
+    private static void intern(Map<String, Integer> table, String s) {
+        table.putIfAbsent(s, table.size());
+    }
+
+    private static void writeSet(DataOutputStream out, Map<String, Integer> table, SymbolTable symbols, IntSet set)
+            throws IOException {
+        writeVarInt(out, set.size());
+        for (int id : set.toArray()) {
+            writeVarInt(out, table.get(symbols.name(id)));
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint non valido");
+    }
+}
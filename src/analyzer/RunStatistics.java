@@ -0,0 +1,224 @@
+package analyzer;
+
+import clean_metrics.Metric;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tempi per fase e contatori di un'esecuzione, per file e aggregati,
+ * scritti alla fine in JSON (writeJson).
+ *
+ * I tempi delle fasi per file (lettura, parsing, corpi, visita, cache)
+ * sono sommati su tutti i thread, quindi con piu' worker possono
+ * superare la durata dell'esecuzione (wallNanos). Il lexing avviene su
+ * richiesta del parser, token per token, ed e' compreso in PARSE.
+ *
+ * Thread safe: i worker di ProjectAnalyzer aggiungono i file in parallelo.
+ */
+public class RunStatistics {
+
+    public enum Phase {
+        READ("read"),
+        PARSE("parse"),
+        LAZY_BODIES("lazyBodies"),
+        VISIT("visit"),
+        CACHE("cache"),
+        MERGE("merge"),
+        METRICS("metrics"),
+        REPORT("report"),
+        CSV_EXPORT("csvExport");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    /** Misure di un singolo file. */
+    public static final class FileStats {
+        final Path file;
+        long bytes;
+        long tokens;
+        long nodes;
+        int classes;
+        long readNanos;
+        long parseNanos;
+        long bodiesNanos;
+        long visitNanos;
+        boolean cached;
+        boolean failed;
+
+        FileStats(Path file) {
+            this.file = file;
+        }
+    }
+
+    private final long startNanos = System.nanoTime();
+    private long wallNanos = -1;
+    private int threads;
+    private int projectClasses;
+
+    private final Map<Phase, LongAdder> phaseNanos = new EnumMap<>(Phase.class);
+    private final Map<Metric, Long> metricNanos = new EnumMap<>(Metric.class);
+    private final ConcurrentLinkedQueue<FileStats> files = new ConcurrentLinkedQueue<>();
+
+    public RunStatistics() {
+        for (Phase phase : Phase.values()) {
+            phaseNanos.put(phase, new LongAdder());
+        }
+    }
+
+    // ----------------------------
+    // RACCOLTA
+    // ----------------------------
+    public void addTime(Phase phase, long nanos) {
+        phaseNanos.get(phase).add(nanos);
+    }
+
+    void addFile(FileStats stats) {
+        files.add(stats);
+        addTime(Phase.READ, stats.readNanos);
+        addTime(Phase.PARSE, stats.parseNanos);
+        addTime(Phase.LAZY_BODIES, stats.bodiesNanos);
+        addTime(Phase.VISIT, stats.visitNanos);
+    }
+
+    // tempi per metrica misurati da MetricsCalculator.setTimed
+    public void setMetricNanos(Metric metric, long nanos) {
+        metricNanos.put(metric, nanos);
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    // classi del modello di progetto dopo l'unione dei file
+    public void setProjectClasses(int projectClasses) {
+        this.projectClasses = projectClasses;
+    }
+
+    // fissa la durata dell'esecuzione; altrimenti la fissa writeJson
+    public void finish() {
+        wallNanos = System.nanoTime() - startNanos;
+    }
+
+    public long getNanos(Phase phase) {
+        return phaseNanos.get(phase).sum();
+    }
+
+    // ----------------------------
+    // OUTPUT
+    // ----------------------------
+    public void writeJson(Path path) throws IOException {
+        try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeJson(out);
+        }
+    }
+
+    public void writeJson(Appendable out) throws IOException {
+        if (wallNanos < 0) {
+            finish();
+        }
+        List<FileStats> perFile = new ArrayList<>(files);
+        perFile.sort(Comparator.comparing(f -> f.file));
+
+        long bytes = 0, tokens = 0, nodes = 0, classes = 0;
+        int failed = 0, cached = 0;
+        for (FileStats f : perFile) {
+            bytes += f.bytes;
+            tokens += f.tokens;
+            nodes += f.nodes;
+            classes += f.classes;
+            failed += f.failed ? 1 : 0;
+            cached += f.cached ? 1 : 0;
+        }
+        double seconds = wallNanos / 1e9;
+
+        out.append("{\n");
+        field(out, "  ", "wallNanos", wallNanos).append(",\n");
+        field(out, "  ", "threads", threads).append(",\n");
+        field(out, "  ", "files", perFile.size()).append(",\n");
+        field(out, "  ", "failedFiles", failed).append(",\n");
+        field(out, "  ", "cachedFiles", cached).append(",\n");
+        field(out, "  ", "bytes", bytes).append(",\n");
+        field(out, "  ", "tokens", tokens).append(",\n");
+        field(out, "  ", "nodes", nodes).append(",\n");
+        field(out, "  ", "classes", classes).append(",\n");
+        field(out, "  ", "projectClasses", projectClasses).append(",\n");
+
+        out.append("  \"throughput\": {\n");
+        out.append(String.format(Locale.ROOT,
+                "    \"filesPerSecond\": %.1f,\n    \"bytesPerSecond\": %.1f,\n    \"tokensPerSecond\": %.1f\n",
+                perFile.size() / seconds, bytes / seconds, tokens / seconds));
+        out.append("  },\n");
+
+        out.append("  \"phaseNanos\": {\n");
+        Phase[] phases = Phase.values();
+        for (int i = 0; i < phases.length; i++) {
+            field(out, "    ", phases[i].label, getNanos(phases[i])).append(i + 1 < phases.length ? ",\n" : "\n");
+        }
+        out.append("  },\n");
+
+        out.append("  \"metricNanos\": {");
+        String separator = "\n";
+        for (Map.Entry<Metric, Long> e : metricNanos.entrySet()) {
+            out.append(separator);
+            field(out, "    ", e.getKey().label(), e.getValue());
+            separator = ",\n";
+        }
+        out.append(metricNanos.isEmpty() ? "},\n" : "\n  },\n");
+
+        out.append("  \"perFile\": [");
+        separator = "\n";
+        for (FileStats f : perFile) {
+            out.append(separator).append("    {\"file\": ");
+            string(out, f.file.toString());
+            out.append(", \"bytes\": ").append(Long.toString(f.bytes))
+                    .append(", \"tokens\": ").append(Long.toString(f.tokens))
+                    .append(", \"nodes\": ").append(Long.toString(f.nodes))
+                    .append(", \"classes\": ").append(Integer.toString(f.classes))
+                    .append(", \"readNanos\": ").append(Long.toString(f.readNanos))
+                    .append(", \"parseNanos\": ").append(Long.toString(f.parseNanos))
+                    .append(", \"lazyBodiesNanos\": ").append(Long.toString(f.bodiesNanos))
+                    .append(", \"visitNanos\": ").append(Long.toString(f.visitNanos))
+                    .append(", \"cached\": ").append(Boolean.toString(f.cached))
+                    .append(", \"failed\": ").append(Boolean.toString(f.failed))
+                    .append('}');
+            separator = ",\n";
+        }
+        out.append(perFile.isEmpty() ? "]\n" : "\n  ]\n");
+        out.append("}\n");
+    }
+
+    private static Appendable field(Appendable out, String indent, String name, long value) throws IOException {
+        return out.append(indent).append('"').append(name).append("\": ").append(Long.toString(value));
+    }
+
+    private static void string(Appendable out, String s) throws IOException {
+        out.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
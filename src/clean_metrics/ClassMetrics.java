@@ -1,60 +1,79 @@
 package clean_metrics;
 
-import java.util.*;
-
+/**
+ * Dati raccolti per una classe. Nomi di classi, metodi e campi sono id
+ * della SymbolTable di progetto: gli insiemi sono IntSet, senza stringhe
+ * ne' boxing, e il nome si recupera con getSymbols().name(id).
+ */
 public class ClassMetrics {
 
-    private final String className;
-    private String parentClass;
+    private final SymbolTable symbols;
+    private final int classId;
+    private int parentId = -1;
 
-    private final Set<String> fields = new HashSet<>();
-    private final Set<String> methods = new HashSet<>();
-    private final Map<String, Set<String>> methodToAccessedFields = new HashMap<>();
+    private final IntSet fields = new IntSet();
+    private final IntSet methods = new IntSet();
+    private final IntObjectMap<IntSet> methodToAccessedFields = new IntObjectMap<>();
 
-    private final Set<String> coupledClasses = new HashSet<>();
-    private final Set<String> invokedMethods = new HashSet<>();
-    private final List<String> children = new ArrayList<>();
+    private final IntSet coupledClasses = new IntSet();
+    private final IntSet invokedMethods = new IntSet();
+    private final IntSet children = new IntSet();
 
-    public ClassMetrics(String className) {
-        this.className = className;
+    public ClassMetrics(SymbolTable symbols, String className) {
+        this.symbols = symbols;
+        this.classId = symbols.intern(className);
     }
 
     // ----------------------------
     // GETTER & SETTER
     // ----------------------------
+    public SymbolTable getSymbols() {
+        return symbols;
+    }
+
     public String getClassName() {
-        return className;
+        return symbols.name(classId);
     }
 
+    public int getClassId() {
+        return classId;
+    }
+
+    // nome del padre, null se la classe non ha extends
     public String getParentClass() {
-        return parentClass;
+        return parentId < 0 ? null : symbols.name(parentId);
+    }
+
+    // id del padre, -1 se la classe non ha extends
+    public int getParentId() {
+        return parentId;
     }
 
     public void setParentClass(String parentClass) {
-        this.parentClass = parentClass;
+        this.parentId = parentClass == null ? -1 : symbols.intern(parentClass);
     }
 
-    public Set<String> getFields() {
+    public IntSet getFields() {
         return fields;
     }
 
-    public Set<String> getMethods() {
+    public IntSet getMethods() {
         return methods;
     }
 
-    public Map<String, Set<String>> getMethodToAccessedFields() {
+    public IntObjectMap<IntSet> getMethodToAccessedFields() {
         return methodToAccessedFields;
     }
 
-    public Set<String> getCoupledClasses() {
+    public IntSet getCoupledClasses() {
         return coupledClasses;
     }
 
-    public Set<String> getInvokedMethods() {
+    public IntSet getInvokedMethods() {
         return invokedMethods;
     }
 
-    public List<String> getChildren() {
+    public IntSet getChildren() {
         return children;
     }
 
@@ -62,29 +81,79 @@ public class ClassMetrics {
     // SUPPORT METODI AGGIUNTIVI
     // ----------------------------
     public void addChild(String child) {
-        children.add(child);
+        children.add(symbols.intern(child));
     }
 
     public void addField(String field) {
-        fields.add(field);
+        fields.add(symbols.intern(field));
+    }
+
+    public boolean hasField(String field) {
+        int id = symbols.lookup(field);
+        return id >= 0 && fields.contains(id);
+    }
+
+    // id del campo con il nome name[from..] se la classe lo dichiara, -1
+    // altrimenti; il nome non viene estratto ne' internato
+    public int fieldId(String name, int from) {
+        int id = symbols.lookup(name, from, name.length());
+        return id >= 0 && fields.contains(id) ? id : -1;
     }
 
     public void addMethod(String method) {
-        methods.add(method);
+        methods.add(symbols.intern(method));
     }
 
     public void addCoupledClass(String coupled) {
-        coupledClasses.add(coupled);
+        coupledClasses.add(symbols.intern(coupled));
     }
 
     public void addInvokedMethod(String invoked) {
-        invokedMethods.add(invoked);
+        invokedMethods.add(symbols.intern(invoked));
     }
 
     public void addMethodAccessedField(String method, String field) {
+        addMethodAccessedField(method, symbols.intern(field));
+    }
+
+    public void addMethodAccessedField(String method, int fieldId) {
         methodToAccessedFields
-                .computeIfAbsent(method, k -> new HashSet<>())
-                .add(field);
+                .computeIfAbsent(symbols.intern(method), k -> new IntSet())
+                .add(fieldId);
+    }
+
+    // Unisce i dati raccolti da un altro file per la stessa classe.
+    // I figli non vengono copiati: vanno ricalcolati sul modello completo.
+    public void mergeFrom(ClassMetrics other) {
+        if (other.symbols != symbols) {
+            throw new IllegalArgumentException("ClassMetrics di tabelle dei simboli diverse");
+        }
+        if (parentId < 0) {
+            parentId = other.parentId;
+        }
+        fields.addAll(other.fields);
+        methods.addAll(other.methods);
+        coupledClasses.addAll(other.coupledClasses);
+        invokedMethods.addAll(other.invokedMethods);
+        other.methodToAccessedFields.forEach((method, accessed) ->
+                methodToAccessedFields.computeIfAbsent(method, k -> new IntSet()).addAll(accessed));
+    }
+
+    // Copia la classe su un'altra tabella dei simboli, traducendo gli id per
+    // nome. I figli non vengono copiati, come in mergeFrom.
+    public ClassMetrics copyTo(SymbolTable target) {
+        ClassMetrics copy = new ClassMetrics(target, getClassName());
+        copy.setParentClass(getParentClass());
+        fields.forEach(id -> copy.fields.add(target.intern(symbols.name(id))));
+        methods.forEach(id -> copy.methods.add(target.intern(symbols.name(id))));
+        coupledClasses.forEach(id -> copy.coupledClasses.add(target.intern(symbols.name(id))));
+        invokedMethods.forEach(id -> copy.invokedMethods.add(target.intern(symbols.name(id))));
+        methodToAccessedFields.forEach((method, accessed) -> {
+            IntSet translated = copy.methodToAccessedFields.computeIfAbsent(
+                    target.intern(symbols.name(method)), k -> new IntSet());
+            accessed.forEach(id -> translated.add(target.intern(symbols.name(id))));
+        });
+        return copy;
     }
 
 
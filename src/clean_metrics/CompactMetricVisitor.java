@@ -0,0 +1,193 @@
+package clean_metrics;
+
+import log.Log;
+import parser.CompactTree;
+import parser.JavaParserTreeConstants;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stesse regole di MetricVisitor, ma sul CompactTree: i nodi sono indici
+ * negli array dell'albero e la visita non crea oggetti per nodo.
+ */
+public class CompactMetricVisitor implements CompactTree.Visitor, JavaParserTreeConstants {
+    private final SymbolTable symbols;
+    private String currentMethodName;
+    private final Map<String, ClassMetrics> metricsMap = new HashMap<>();
+    private String currentClass;
+    // pila delle classi dei metodi in corso di visita e dei nodi
+    // MethodDeclaration corrispondenti (array paralleli, senza boxing)
+    private ClassMetrics[] methodOwners = new ClassMetrics[8];
+    private int[] ownerNodes = new int[8];
+    private int owners;
+
+    // symbols: tabella dell'analisi in cui finiscono i ClassMetrics
+    public CompactMetricVisitor(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    @Override
+    public boolean enter(CompactTree tree, int node) {
+        switch (tree.kind(node)) {
+            case JJTCLASSORINTERFACEDECLARATION:
+                enterClass(tree, node);
+                break;
+            case JJTMETHODDECLARATION:
+                enterMethod(tree, node);
+                break;
+            case JJTFORMALPARAMETER:
+            case JJTALLOCATIONEXPRESSION:
+                // come in MetricVisitor il tipo registrato e' il nome del nodo
+                if (currentClass != null) {
+                    String type = tree.toString(node);
+                    if (!isIgnorableType(type)) {
+                        metricsMap.get(currentClass).addCoupledClass(type);
+                    }
+                }
+                break;
+            case JJTFIELDDECLARATION:
+                enterField(tree, node);
+                break;
+            case JJTPRIMARYEXPRESSION:
+                enterPrimaryExpression(tree, node);
+                break;
+            default:
+                break;
+        }
+        return true;
+    }
+
+    @Override
+    public void exit(CompactTree tree, int node) {
+        switch (tree.kind(node)) {
+            case JJTCOMPILATIONUNIT:
+                // calcola mappa dei figli per NOC
+                for (ClassMetrics potentialChild : metricsMap.values()) {
+                    String parent = potentialChild.getParentClass();
+                    if (parent != null && metricsMap.containsKey(parent)) {
+                        metricsMap.get(parent).getChildren().add(potentialChild.getClassId());
+                    }
+                }
+                break;
+            case JJTCLASSORINTERFACEDECLARATION:
+                currentClass = null;
+                break;
+            case JJTMETHODDECLARATION:
+                if (owners > 0 && ownerNodes[owners - 1] == node) {
+                    methodOwners[--owners] = null;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    // ----------------------------
+    // NODI
+    // ----------------------------
+    private void enterClass(CompactTree tree, int node) {
+        String className = tree.image(node);
+        currentClass = className;
+        metricsMap.putIfAbsent(className, new ClassMetrics(symbols, className));
+
+        // gestisci extends
+        for (int child = tree.firstChild(node); child != CompactTree.NONE; child = tree.nextSibling(child)) {
+            if (tree.kind(child) == JJTEXTENDSLIST) {
+                for (int ext = tree.firstChild(child); ext != CompactTree.NONE; ext = tree.nextSibling(ext)) {
+                    if (tree.kind(ext) == JJTCLASSORINTERFACETYPE) {
+                        metricsMap.get(className).setParentClass(tree.image(ext));
+                    }
+                }
+            }
+        }
+    }
+
+    private void enterMethod(CompactTree tree, int node) {
+        if (currentClass != null && metricsMap.containsKey(currentClass)) {
+            int declarator = tree.firstChild(node, JJTMETHODDECLARATOR);
+            String methodName = declarator != CompactTree.NONE ? tree.image(declarator) : null;
+            if (methodName == null) {
+                methodName = tree.toString(node);
+            }
+            currentMethodName = methodName;
+
+            ClassMetrics owner = metricsMap.get(currentClass);
+            owner.addMethod(methodName);
+
+            // le chiamate nel corpo vengono raccolte fino all'uscita dal nodo
+            if (owners == ownerNodes.length) {
+                methodOwners = Arrays.copyOf(methodOwners, owners * 2);
+                ownerNodes = Arrays.copyOf(ownerNodes, owners * 2);
+            }
+            methodOwners[owners] = owner;
+            ownerNodes[owners++] = node;
+        }
+    }
+
+    private void enterField(CompactTree tree, int node) {
+        if (currentClass != null && metricsMap.containsKey(currentClass)) {
+            ClassMetrics classMetrics = metricsMap.get(currentClass);
+
+            for (int child = tree.firstChild(node); child != CompactTree.NONE; child = tree.nextSibling(child)) {
+                if (tree.kind(child) == JJTVARIABLEDECLARATOR) {
+                    for (int id = tree.firstChild(child); id != CompactTree.NONE; id = tree.nextSibling(id)) {
+                        if (tree.kind(id) == JJTVARIABLEDECLARATORID) {
+                            String fieldName = tree.image(id);
+                            classMetrics.addField(fieldName);
+                            Log.debug("Campo trovato in {}: {}", currentClass, fieldName);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void enterPrimaryExpression(CompactTree tree, int node) {
+        String name = prefixName(tree, node);
+        if (name != null) {
+            // chiamate (RFC): vanno a tutti i metodi che racchiudono l'espressione
+            for (int i = owners - 1; i >= 0; i--) {
+                methodOwners[i].addInvokedMethod(name);
+            }
+
+            // accessi ai campi (LCOM)
+            if (currentClass != null && currentMethodName != null && metricsMap.containsKey(currentClass)) {
+                ClassMetrics classMetrics = metricsMap.get(currentClass);
+                // ultimo segmento del nome, cercato senza creare la sottostringa
+                int fieldId = classMetrics.fieldId(name, name.lastIndexOf('.') + 1);
+
+                if (fieldId >= 0) {
+                    classMetrics.addMethodAccessedField(currentMethodName, fieldId);
+                    Log.debug("Metodo {} usa campo: {}", currentMethodName, classMetrics.getSymbols().name(fieldId));
+                }
+            }
+        }
+    }
+
+    // nome in testa all'espressione (PrimaryPrefix -> Name), null se assente
+    private static String prefixName(CompactTree tree, int node) {
+        int prefix = tree.firstChild(node);
+        if (prefix != CompactTree.NONE && tree.kind(prefix) == JJTPRIMARYPREFIX) {
+            int name = tree.firstChild(prefix);
+            if (name != CompactTree.NONE && tree.kind(name) == JJTNAME) {
+                return tree.image(name);
+            }
+        }
+        return null;
+    }
+
+    public Map<String, ClassMetrics> getMetricsMap() {
+        return metricsMap;
+    }
+
+    private boolean isIgnorableType(String type) {
+        if (type == null) return true;
+        type = type.trim();
+        return type.isEmpty()
+                || type.equals(currentClass)
+                || type.matches("int|long|double|float|char|byte|short|boolean|void")
+                || type.startsWith("java.lang");
+    }
+}
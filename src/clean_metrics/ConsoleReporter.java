@@ -0,0 +1,39 @@
+package clean_metrics;
+
+import java.io.PrintStream;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+public class ConsoleReporter implements MetricsReporter {
+
+    private final PrintStream out;
+    private final Set<Metric> metrics;
+
+    public ConsoleReporter() {
+        this(System.out);
+    }
+
+    public ConsoleReporter(PrintStream out) {
+        this(out, Metric.all());
+    }
+
+    public ConsoleReporter(PrintStream out, Set<Metric> metrics) {
+        this.out = out;
+        this.metrics = EnumSet.copyOf(metrics);
+    }
+
+    @Override
+    public void report(List<MetricsResult> results) {
+        StringBuilder sb = new StringBuilder();
+        for (MetricsResult r : results) {
+            sb.setLength(0);
+            sb.append("Class: ").append(r.getClassName()).append(System.lineSeparator());
+            for (Metric m : metrics) {
+                sb.append(' ').append(m.label()).append(": ").append(m.valueOf(r)).append(System.lineSeparator());
+            }
+            sb.append(System.lineSeparator());
+            out.print(sb);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package clean_metrics;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+public class CsvReporter implements MetricsReporter {
+
+    private final String filename;
+    private final Set<Metric> metrics;
+
+    public CsvReporter(String filename) {
+        this(filename, Metric.all());
+    }
+
+    // solo le colonne delle metriche indicate, nell'ordine di Metric
+    public CsvReporter(String filename, Set<Metric> metrics) {
+        this.filename = filename;
+        this.metrics = EnumSet.copyOf(metrics);
+    }
+
+    @Override
+    public void report(List<MetricsResult> results) throws IOException {
+        try (FileWriter writer = new FileWriter(filename)) {
+            // Intestazione colonne
+            writer.append("ClassName");
+            for (Metric m : metrics) {
+                writer.append(",").append(m.label());
+            }
+            writer.append("\n");
+
+            for (MetricsResult r : results) {
+                writer.append(r.getClassName());
+                for (Metric m : metrics) {
+                    writer.append(",").append(String.valueOf(m.valueOf(r)));
+                }
+                writer.append("\n");
+            }
+
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package clean_metrics;
+
+import java.util.Arrays;
+
+/**
+ * Mappa da interi non negativi a interi, a indirizzamento aperto come
+ * IntSet: chiavi e valori in due int[] paralleli, nessun boxing.
+ */
+public final class IntIntMap {
+
+    private static final int FREE = -1;
+    private static final int[] NO_INTS = new int[0];
+
+    private int[] keys = NO_INTS;
+    private int[] values = NO_INTS;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return slot(key) >= 0;
+    }
+
+    // valore associato, missing se la chiave non c'e'
+    public int get(int key, int missing) {
+        int i = slot(key);
+        return i < 0 ? missing : values[i];
+    }
+
+    public void put(int key, int value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("id negativo: " + key);
+        }
+        if (IntSet.mustGrow(size + 1, keys.length)) {
+            rehash(Math.max(4, keys.length * 2));
+        }
+        int mask = keys.length - 1;
+        int i = IntSet.hash(key) & mask;
+        while (keys[i] != FREE) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+
+    public boolean remove(int key) {
+        int i = slot(key);
+        if (i < 0) {
+            return false;
+        }
+        int mask = keys.length - 1;
+        int free = i;
+        for (int j = (i + 1) & mask; keys[j] != FREE; j = (j + 1) & mask) {
+            int home = IntSet.hash(keys[j]) & mask;
+            if (((j - home) & mask) >= ((j - free) & mask)) {
+                keys[free] = keys[j];
+                values[free] = values[j];
+                free = j;
+            }
+        }
+        keys[free] = FREE;
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+    }
+
+    // -1 (FREE) e' anche l'id "assente" delle lookup: una chiave negativa non c'e' mai
+    private int slot(int key) {
+        if (size == 0 || key < 0) {
+            return -1;
+        }
+        int mask = keys.length - 1;
+        for (int i = IntSet.hash(key) & mask; ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return i;
+            }
+            if (k == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, FREE);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != FREE) {
+                int i = IntSet.hash(oldKeys[j]) & mask;
+                while (keys[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
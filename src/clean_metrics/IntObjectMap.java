@@ -0,0 +1,165 @@
+package clean_metrics;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Mappa da interi non negativi (id della SymbolTable) a oggetti, a
+ * indirizzamento aperto come IntSet: chiavi e valori in due array paralleli.
+ */
+public final class IntObjectMap<V> {
+
+    private static final int FREE = -1;
+
+    private static final int[] NO_KEYS = new int[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private int[] keys = NO_KEYS;
+    private Object[] values = NO_VALUES;
+    private int size;
+
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return slot(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int i = slot(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("id negativo: " + key);
+        }
+        if (IntSet.mustGrow(size + 1, keys.length)) {
+            rehash(Math.max(4, keys.length * 2));
+        }
+        int mask = keys.length - 1;
+        int i = IntSet.hash(key) & mask;
+        while (keys[i] != FREE) {
+            if (keys[i] == key) {
+                V old = (V) values[i];
+                values[i] = value;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+        return null;
+    }
+
+    public V computeIfAbsent(int key, IntFunction<V> factory) {
+        V value = get(key);
+        if (value == null) {
+            value = factory.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int i = slot(key);
+        if (i < 0) {
+            return null;
+        }
+        V old = (V) values[i];
+        int mask = keys.length - 1;
+        int free = i;
+        for (int j = (i + 1) & mask; keys[j] != FREE; j = (j + 1) & mask) {
+            int home = IntSet.hash(keys[j]) & mask;
+            if (((j - home) & mask) >= ((j - free) & mask)) {
+                keys[free] = keys[j];
+                values[free] = values[j];
+                free = j;
+            }
+        }
+        keys[free] = FREE;
+        values[free] = null;
+        size--;
+        return old;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    public int[] keys() {
+        int[] out = new int[size];
+        int n = 0;
+        for (int k : keys) {
+            if (k != FREE) {
+                out[n++] = k;
+            }
+        }
+        return out;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    // -1 (FREE) e' anche l'id "assente" delle lookup: una chiave negativa non c'e' mai
+    private int slot(int key) {
+        if (size == 0 || key < 0) {
+            return -1;
+        }
+        int mask = keys.length - 1;
+        for (int i = IntSet.hash(key) & mask; ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return i;
+            }
+            if (k == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        Arrays.fill(keys, FREE);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != FREE) {
+                int i = IntSet.hash(oldKeys[j]) & mask;
+                while (keys[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package clean_metrics;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Insieme di interi non negativi (id della SymbolTable) a indirizzamento
+ * aperto con probing lineare: nessun oggetto per elemento e nessun boxing.
+ */
+public final class IntSet {
+
+    private static final int FREE = -1;
+    private static final int[] NO_KEYS = new int[0];
+
+    private int[] keys = NO_KEYS;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // -1 (FREE) e' anche l'id "assente" delle lookup: una chiave negativa non c'e' mai
+    public boolean contains(int key) {
+        if (size == 0 || key < 0) {
+            return false;
+        }
+        int mask = keys.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return true;
+            }
+            if (k == FREE) {
+                return false;
+            }
+        }
+    }
+
+    public boolean add(int key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("id negativo: " + key);
+        }
+        if (mustGrow(size + 1, keys.length)) {
+            rehash(Math.max(4, keys.length * 2));
+        }
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != FREE) {
+            if (keys[i] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        size++;
+        return true;
+    }
+
+    public boolean remove(int key) {
+        if (size == 0 || key < 0) {
+            return false;
+        }
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != key) {
+            if (keys[i] == FREE) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        // cancellazione con spostamento all'indietro: nessuna lapide
+        int free = i;
+        for (int j = (i + 1) & mask; keys[j] != FREE; j = (j + 1) & mask) {
+            int home = hash(keys[j]) & mask;
+            if (((j - home) & mask) >= ((j - free) & mask)) {
+                keys[free] = keys[j];
+                free = j;
+            }
+        }
+        keys[free] = FREE;
+        size--;
+        return true;
+    }
+
+    public void addAll(IntSet other) {
+        for (int k : other.keys) {
+            if (k != FREE) {
+                add(k);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int k : keys) {
+            if (k != FREE) {
+                action.accept(k);
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] out = new int[size];
+        int n = 0;
+        for (int k : keys) {
+            if (k != FREE) {
+                out[n++] = k;
+            }
+        }
+        return out;
+    }
+
+    // numero di elementi in comune, scorrendo l'insieme piu' piccolo
+    public int intersectionSize(IntSet other) {
+        IntSet smaller = size <= other.size ? this : other;
+        IntSet larger = smaller == this ? other : this;
+        int common = 0;
+        for (int k : smaller.keys) {
+            if (k != FREE && larger.contains(k)) {
+                common++;
+            }
+        }
+        return common;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = keys;
+        keys = new int[capacity];
+        Arrays.fill(keys, FREE);
+        int mask = capacity - 1;
+        for (int k : old) {
+            if (k != FREE) {
+                int i = hash(k) & mask;
+                while (keys[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = k;
+            }
+        }
+    }
+
+    // fattore di carico massimo 3/4: con il probing lineare e le chiavi
+    // mescolate da hash() le sequenze restano corte, e un insieme piccolo
+    // occupa al piu' 4/3 (appena dopo una crescita 8/3) interi per elemento
+    static boolean mustGrow(int size, int capacity) {
+        return size * 4 > capacity * 3;
+    }
+
+    // gli id sono consecutivi: il mescolamento evita lunghe sequenze occupate
+    static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof IntSet)) {
+            return false;
+        }
+        IntSet other = (IntSet) o;
+        return size == other.size && intersectionSize(other) == size;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int k : keys) {
+            if (k != FREE) {
+                h += k;
+            }
+        }
+        return h;
+    }
+}
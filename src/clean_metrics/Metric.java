@@ -0,0 +1,66 @@
+package clean_metrics;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Metriche riportate, nell'ordine delle colonne del CSV. I reporter
+ * ricevono l'insieme delle metriche richieste e scrivono solo quelle.
+ */
+public enum Metric {
+    WMC("WMC"),
+    DIT("DIT"),
+    NOC("NOC"),
+    CBO("CBO"),
+    ADV_CBO("AdvCBO"),
+    RFC("RFC"),
+    LCOM("LCOM");
+
+    // metriche che dipendono solo da dichiarazioni e firme: si calcolano
+    // anche saltando i corpi dei metodi
+    public static final Set<Metric> STRUCTURAL = EnumSet.of(WMC, DIT, NOC);
+
+    private final String label;
+
+    Metric(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int valueOf(MetricsResult r) {
+        switch (this) {
+            case WMC: return r.getWMC();
+            case DIT: return r.getDIT();
+            case NOC: return r.getNOC();
+            case CBO: return r.getCBO();
+            case ADV_CBO: return r.getAdvCBO();
+            case RFC: return r.getRFC();
+            default: return r.getLCOM();
+        }
+    }
+
+    public static Set<Metric> all() {
+        return EnumSet.allOf(Metric.class);
+    }
+
+    // elenco separato da virgole, per nome di colonna (es. "WMC,DIT,AdvCBO")
+    public static Set<Metric> parseList(String list) {
+        Set<Metric> metrics = EnumSet.noneOf(Metric.class);
+        for (String name : list.split(",")) {
+            metrics.add(byLabel(name.trim()));
+        }
+        return metrics;
+    }
+
+    private static Metric byLabel(String label) {
+        for (Metric m : values()) {
+            if (m.label.equalsIgnoreCase(label)) {
+                return m;
+            }
+        }
+        throw new IllegalArgumentException("Metrica sconosciuta: " + label);
+    }
+}
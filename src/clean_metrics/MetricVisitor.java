@@ -1,15 +1,24 @@
 package clean_metrics;
 
+import log.Log;
 import parser.*;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 public class MetricVisitor extends JavaParserDefaultVisitor {
+    private final SymbolTable symbols;
     private String currentMethodName;
     private final Map<String, ClassMetrics> metricsMap = new HashMap<>();
     private String currentClass;
+    // classi dei metodi in corso di visita (piu' di una con classi locali/anonime)
+    private final Deque<ClassMetrics> methodOwners = new ArrayDeque<>();
+
+    // symbols: tabella dell'analisi in cui finiscono i ClassMetrics
+    public MetricVisitor(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
 
     @Override
     public Object visit(ASTCompilationUnit node, Object data) throws Exception {
@@ -19,7 +28,7 @@ public class MetricVisitor extends JavaParserDefaultVisitor {
         for (ClassMetrics potentialChild : metricsMap.values()) {
             String parent = potentialChild.getParentClass();
             if (parent != null && metricsMap.containsKey(parent)) {
-                metricsMap.get(parent).addChild(potentialChild.getClassName());
+                metricsMap.get(parent).getChildren().add(potentialChild.getClassId());
             }
         }
 
@@ -30,7 +39,7 @@ public class MetricVisitor extends JavaParserDefaultVisitor {
     public Object visit(ASTClassOrInterfaceDeclaration node, Object data) throws Exception {
         String className = node.getImage();
         currentClass = className;
-        metricsMap.putIfAbsent(className, new ClassMetrics(className));
+        metricsMap.putIfAbsent(className, new ClassMetrics(symbols, className));
 
         // gestisci extends
         for (int i = 0; i < node.jjtGetNumChildren(); i++) {
@@ -67,16 +76,16 @@ public class MetricVisitor extends JavaParserDefaultVisitor {
             }
             currentMethodName = methodName;
 
-            metricsMap.get(currentClass).addMethod(methodName);
-
-            Object result = super.visit(node, data);
+            ClassMetrics owner = metricsMap.get(currentClass);
+            owner.addMethod(methodName);
 
-            Set<String> invoked = MethodCallCollector.collect(node);
-            for (String inv : invoked) {
-                metricsMap.get(currentClass).addInvokedMethod(inv);
+            // le chiamate nel corpo vengono raccolte durante questa stessa visita
+            methodOwners.push(owner);
+            try {
+                return super.visit(node, data);
+            } finally {
+                methodOwners.pop();
             }
-
-            return result;
         }
         return super.visit(node, data);
     }
@@ -117,7 +126,7 @@ public class MetricVisitor extends JavaParserDefaultVisitor {
                         if (grandChild instanceof ASTVariableDeclaratorId) {
                             String fieldName = ((ASTVariableDeclaratorId) grandChild).getImage();
                             classMetrics.addField(fieldName);
-                            System.out.println("Campo trovato in " + currentClass + ": " + fieldName);
+                            Log.debug("Campo trovato in {}: {}", currentClass, fieldName);
                         }
                     }
                 }
@@ -128,52 +137,42 @@ public class MetricVisitor extends JavaParserDefaultVisitor {
 
     @Override
     public Object visit(ASTPrimaryExpression node, Object data) throws Exception {
-        if (currentClass != null && currentMethodName != null && metricsMap.containsKey(currentClass)) {
-            ClassMetrics classMetrics = metricsMap.get(currentClass);
+        String name = prefixName(node);
+        if (name != null) {
+            // chiamate (RFC): vanno a tutti i metodi che racchiudono l'espressione,
+            // anche se si trova in una classe locale o anonima
+            for (ClassMetrics owner : methodOwners) {
+                owner.addInvokedMethod(name);
+            }
 
-            if (node.jjtGetNumChildren() > 0 && node.jjtGetChild(0) instanceof ASTPrimaryPrefix) {
-                ASTPrimaryPrefix prefix = (ASTPrimaryPrefix) node.jjtGetChild(0);
-                if (prefix.jjtGetNumChildren() > 0 && prefix.jjtGetChild(0) instanceof ASTName) {
-                    ASTName nameNode = (ASTName) prefix.jjtGetChild(0);
-                    String name = nameNode.getImage();
-                    String fieldName = name.contains(".") ? name.substring(name.lastIndexOf('.') + 1) : name;
+            // accessi ai campi (LCOM)
+            if (currentClass != null && currentMethodName != null && metricsMap.containsKey(currentClass)) {
+                ClassMetrics classMetrics = metricsMap.get(currentClass);
+                // ultimo segmento del nome, cercato senza creare la sottostringa
+                int fieldId = classMetrics.fieldId(name, name.lastIndexOf('.') + 1);
 
-                    if (classMetrics.getFields().contains(fieldName)) {
-                        classMetrics.addMethodAccessedField(currentMethodName, fieldName);
-                        System.out.println("Metodo " + currentMethodName + " usa campo: " + fieldName);
-                    }
+                if (fieldId >= 0) {
+                    classMetrics.addMethodAccessedField(currentMethodName, fieldId);
+                    Log.debug("Metodo {} usa campo: {}", currentMethodName, classMetrics.getSymbols().name(fieldId));
                 }
             }
         }
         return super.visit(node, data);
     }
 
-    public Map<String, ClassMetrics> getMetricsMap() {
-        return metricsMap;
+    // nome in testa all'espressione (PrimaryPrefix -> Name), null se assente
+    private static String prefixName(ASTPrimaryExpression node) {
+        if (node.jjtGetNumChildren() > 0 && node.jjtGetChild(0) instanceof ASTPrimaryPrefix) {
+            ASTPrimaryPrefix prefix = (ASTPrimaryPrefix) node.jjtGetChild(0);
+            if (prefix.jjtGetNumChildren() > 0 && prefix.jjtGetChild(0) instanceof ASTName) {
+                return ((ASTName) prefix.jjtGetChild(0)).getImage();
+            }
+        }
+        return null;
     }
 
-    // nested collector
-    public static class MethodCallCollector {
-        public static Set<String> collect(Node methodNode) throws Exception {
-            Set<String> methodCalls = new HashSet<>();
-            methodNode.jjtAccept(new JavaParserDefaultVisitor() {
-                @Override
-                public Object visit(ASTPrimaryExpression node, Object data) throws Exception {
-                    if (node.jjtGetNumChildren() > 0) {
-                        Node first = node.jjtGetChild(0);
-                        if (first instanceof ASTPrimaryPrefix) {
-                            ASTPrimaryPrefix prefix = (ASTPrimaryPrefix) first;
-                            if (prefix.jjtGetNumChildren() > 0 && prefix.jjtGetChild(0) instanceof ASTName) {
-                                ASTName name = (ASTName) prefix.jjtGetChild(0);
-                                methodCalls.add(name.getImage());
-                            }
-                        }
-                    }
-                    return super.visit(node, data);
-                }
-            }, null);
-            return methodCalls;
-        }
+    public Map<String, ClassMetrics> getMetricsMap() {
+        return metricsMap;
     }
 
     private boolean isIgnorableType(String type) {
@@ -1,40 +1,291 @@
 package clean_metrics;
 
+import jfr.MetricCalculationEvent;
+import log.Log;
+
 import java.util.*;
-import java.io.FileWriter;
 import java.io.IOException;
 
 public class MetricsCalculator {
 
     private final Map<String, ClassMetrics> classMetricsMap;
+    // le stesse classi per id della SymbolTable
+    private final IntObjectMap<ClassMetrics> classesById = new IntObjectMap<>();
+    // indice inverso del coupling: classe -> classi che la usano (couplingIn)
+    private final IntObjectMap<IntSet> couplingInIndex = new IntObjectMap<>();
+    // classe -> sottoclassi dirette, anche per padri esterni al progetto
+    private final IntObjectMap<IntSet> subclassIndex = new IntObjectMap<>();
+    private final IntIntMap ditCache = new IntIntMap();
+
+    // righe gia' calcolate e classi la cui riga va ricalcolata
+    private final Map<String, MetricsResult> rows = new LinkedHashMap<>();
+    private final IntSet dirty = new IntSet();
+    private boolean initialized;
+    private List<MetricsResult> results;
+
+    // tempo speso in ogni metrica (per ordinal di Metric), null se non misurato
+    private long[] metricNanos;
+
+    private static final IntSet EMPTY = new IntSet();
 
+    // indici costruiti una sola volta sul modello completo: O(numero di archi)
     public MetricsCalculator(Map<String, ClassMetrics> classMetricsMap) {
         this.classMetricsMap = classMetricsMap;
+        for (ClassMetrics cm : classMetricsMap.values()) {
+            int id = cm.getClassId();
+            classesById.put(id, cm);
+            cm.getCoupledClasses().forEach(coupled ->
+                    couplingInIndex.computeIfAbsent(coupled, k -> new IntSet()).add(id));
+            if (cm.getParentId() >= 0) {
+                subclassIndex.computeIfAbsent(cm.getParentId(), k -> new IntSet()).add(id);
+            }
+        }
     }
 
-    public void computeMetrics() {
-        for (ClassMetrics cm : classMetricsMap.values()) {
-            String className = cm.getClassName();
+    // Calcola tutte le metriche una sola volta; le chiamate successive
+    // restituiscono le stesse righe, finche' il modello non viene modificato
+    // con updateClass/removeClass.
+    public List<MetricsResult> calculate() {
+        if (results == null) {
+            recalculate();
+            results = Collections.unmodifiableList(new ArrayList<>(rows.values()));
+        }
+        return results;
+    }
+
+    // Ricalcola solo le righe invalidate e restituisce quelle ricalcolate
+    // (alla prima chiamata tutte).
+    public List<MetricsResult> recalculate() {
+        List<ClassMetrics> classes = new ArrayList<>();
+        if (!initialized) {
+            classes.addAll(classMetricsMap.values());
+            initialized = true;
+        } else {
+            for (int id : dirty.toArray()) {
+                ClassMetrics cm = classesById.get(id);
+                if (cm != null) {
+                    classes.add(cm);
+                }
+            }
+        }
+        dirty.clear();
 
-            int wmc = computeWMC(cm);
-            int dit = computeDIT(cm);
-            int noc = cm.getChildren().size();
-            int cbo = computeCBO(cm);
-            int rfc = computeRFC(cm);
-            int lcom = computeLCOM(cm);
-            int cboAdvanced = ComputeAdvancedCBO(cm);
+        List<MetricsResult> refreshed = new ArrayList<>(classes.size());
+        if (metricNanos != null || MetricCalculationEvent.isRecording()) {
+            computeByMetric(classes, refreshed);
+        } else {
+            for (ClassMetrics cm : classes) {
+                refreshed.add(computeRow(cm));
+            }
+        }
+        for (MetricsResult row : refreshed) {
+            rows.put(row.getClassName(), row);
+        }
+        return refreshed;
+    }
 
-            System.out.printf(
-                    "Class: %s%n WMC: %d%n DIT: %d%n NOC: %d%n CBO: %d%n AdvCBO: %d%n RFC: %d%n LCOM: %d%n%n",
-                    className, wmc, dit, noc, cbo, cboAdvanced, rfc, lcom
-            );
+    private MetricsResult computeRow(ClassMetrics cm) {
+        return new MetricsResult(
+                cm.getClassName(),
+                computeWMC(cm),
+                computeDIT(cm),
+                cm.getChildren().size(),
+                computeCBO(cm),
+                ComputeAdvancedCBO(cm),
+                computeRFC(cm),
+                computeLCOM(cm)
+        );
+    }
+
+    // Stesse righe calcolate per colonne, una metrica alla volta su tutte
+    // le classi: il tempo di ogni metrica (setTimed, evento JFR) costa una
+    // lettura dell'orologio per metrica e non per classe.
+    private void computeByMetric(List<ClassMetrics> classes, List<MetricsResult> refreshed) {
+        Metric[] metrics = Metric.values();
+        int[][] values = new int[metrics.length][classes.size()];
+        for (Metric metric : metrics) {
+            MetricCalculationEvent event = new MetricCalculationEvent();
+            event.begin();
+            long start = System.nanoTime();
+            int[] column = values[metric.ordinal()];
+            for (int i = 0; i < column.length; i++) {
+                column[i] = compute(metric, classes.get(i));
+            }
+            if (metricNanos != null) {
+                metricNanos[metric.ordinal()] += System.nanoTime() - start;
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.metric = metric.label();
+                event.classes = column.length;
+                event.commit();
+            }
+        }
+        for (int i = 0; i < classes.size(); i++) {
+            refreshed.add(new MetricsResult(classes.get(i).getClassName(),
+                    values[0][i], values[1][i], values[2][i], values[3][i],
+                    values[4][i], values[5][i], values[6][i]));
         }
     }
 
+    // misura il tempo di ogni metrica nei calcoli successivi (getMetricNanos)
+    public void setTimed(boolean timed) {
+        metricNanos = timed ? new long[Metric.values().length] : null;
+    }
+
+    public long getMetricNanos(Metric metric) {
+        return metricNanos == null ? 0 : metricNanos[metric.ordinal()];
+    }
+
+    // --------------
+    // INVALIDAZIONE
+    // --------------
+    // WMC, CBO, RFC e LCOM dipendono solo dalla classe stessa; le altre
+    // metriche dipendono da classi vicine nel grafo:
+    //   NOC    -> sottoclassi dirette (subclassIndex)
+    //   DIT    -> catena dei padri: cambia per tutti i discendenti
+    //   AdvCBO -> classi che la usano (couplingInIndex)
+    // Una modifica invalida quindi la classe, i padri vecchio e nuovo, i
+    // discendenti se cambia la catena, e le classi entrate o uscite dal suo
+    // couplingOut.
+
+    // Aggiunge o sostituisce una classe nel modello. cm deve essere un nuovo
+    // oggetto: la versione precedente serve per sapere cosa e' cambiato.
+    // Restituisce le classi invalidate.
+    public Set<String> updateClass(ClassMetrics cm) {
+        String className = cm.getClassName();
+        ClassMetrics old = classMetricsMap.put(className, cm);
+        if (old == cm) {
+            throw new IllegalArgumentException("La classe " + className + " va sostituita con un nuovo oggetto");
+        }
+        classesById.put(cm.getClassId(), cm);
+        return invalidate(cm.getClassId(), old, cm);
+    }
+
+    // Rimuove una classe dal modello; restituisce le classi invalidate.
+    public Set<String> removeClass(String className) {
+        ClassMetrics old = classMetricsMap.remove(className);
+        if (old == null) {
+            return Collections.emptySet();
+        }
+        classesById.remove(old.getClassId());
+        rows.remove(className);
+        return invalidate(old.getClassId(), old, null);
+    }
+
+    private Set<String> invalidate(int classId, ClassMetrics old, ClassMetrics current) {
+        IntSet invalidated = new IntSet();
+        invalidated.add(classId);
+        results = null;
+
+        // NOC: i figli della classe e del padre vecchio/nuovo
+        int oldParent = old == null ? -1 : old.getParentId();
+        int newParent = current == null ? -1 : current.getParentId();
+        if (current != null) {
+            current.getChildren().clear();
+            current.getChildren().addAll(subclassIndex.getOrDefault(classId, EMPTY));
+        }
+        if (oldParent != newParent) {
+            if (oldParent >= 0) {
+                removeFromIndex(subclassIndex, oldParent, classId);
+                ClassMetrics parent = classesById.get(oldParent);
+                if (parent != null) {
+                    parent.getChildren().remove(classId);
+                }
+                invalidated.add(oldParent);
+            }
+            if (newParent >= 0) {
+                subclassIndex.computeIfAbsent(newParent, k -> new IntSet()).add(classId);
+                ClassMetrics parent = classesById.get(newParent);
+                if (parent != null) {
+                    parent.getChildren().add(classId);
+                }
+                invalidated.add(newParent);
+            }
+        }
+
+        // DIT: la catena cambia se cambia il padre o se la classe compare/sparisce
+        if (old == null || current == null || oldParent != newParent) {
+            IntSet visited = new IntSet();
+            Deque<IntSet> pending = new ArrayDeque<>();
+            visited.add(classId);
+            ditCache.remove(classId);
+            pending.push(subclassIndex.getOrDefault(classId, EMPTY));
+            while (!pending.isEmpty()) {
+                for (int descendant : pending.pop().toArray()) {
+                    if (visited.add(descendant)) { // un ciclo di extends si ferma qui
+                        ditCache.remove(descendant);
+                        pending.push(subclassIndex.getOrDefault(descendant, EMPTY));
+                    }
+                }
+            }
+            invalidated.addAll(visited);
+        }
+
+        // AdvCBO: cambia il couplingIn delle classi aggiunte o tolte dal couplingOut
+        IntSet oldOut = old == null ? EMPTY : old.getCoupledClasses();
+        IntSet newOut = current == null ? EMPTY : current.getCoupledClasses();
+        oldOut.forEach(coupled -> {
+            if (!newOut.contains(coupled)) {
+                removeFromIndex(couplingInIndex, coupled, classId);
+                invalidated.add(coupled);
+            }
+        });
+        newOut.forEach(coupled -> {
+            if (!oldOut.contains(coupled)) {
+                couplingInIndex.computeIfAbsent(coupled, k -> new IntSet()).add(classId);
+                invalidated.add(coupled);
+            }
+        });
+
+        // solo le classi del modello hanno una riga (le altre sono esterne)
+        SymbolTable symbols = (current != null ? current : old).getSymbols();
+        Set<String> names = new HashSet<>();
+        invalidated.forEach(id -> {
+            if (classesById.containsKey(id)) {
+                dirty.add(id);
+            }
+            names.add(symbols.name(id));
+        });
+        return names;
+    }
+
+    private static void removeFromIndex(IntObjectMap<IntSet> index, int key, int value) {
+        IntSet values = index.get(key);
+        if (values != null) {
+            values.remove(value);
+            if (values.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    public void computeMetrics() {
+        computeMetrics(Metric.all());
+    }
+
+    // stampa solo le metriche indicate
+    public void computeMetrics(Set<Metric> metrics) {
+        new ConsoleReporter(System.out, metrics).report(calculate());
+    }
+
     // --------------
     // METRICHE
     // --------------
 
+    // una sola metrica di una classe, ad es. per misurarle separatamente
+    public int compute(Metric metric, ClassMetrics cm) {
+        switch (metric) {
+            case WMC: return computeWMC(cm);
+            case DIT: return computeDIT(cm);
+            case NOC: return cm.getChildren().size();
+            case CBO: return computeCBO(cm);
+            case ADV_CBO: return ComputeAdvancedCBO(cm);
+            case RFC: return computeRFC(cm);
+            default: return computeLCOM(cm);
+        }
+    }
+
     // WMC: Weighted Methods per Class
     // Qui semplificato come numero di metodi (peso unitario)
     private int computeWMC(ClassMetrics cm) {
@@ -42,19 +293,63 @@ public class MetricsCalculator {
     }
 
     // DIT: Depth of Inheritance Tree
+    // Numero di antenati distinti (un padre esterno al progetto conta come uno).
+    // Il valore e' memorizzato per classe: ogni catena di padri viene percorsa
+    // una sola volta per tutto il progetto. Un ciclo di extends (input malformato
+    // o parsato in parte) non blocca il calcolo: ogni classe del ciclo ha come
+    // antenati gli altri membri del ciclo.
     private int computeDIT(ClassMetrics cm) {
-        int depth = 0;
-        String currentParent = cm.getParentClass();
-        while (currentParent != null) {
-            depth++;
-            ClassMetrics parentMetrics = classMetricsMap.get(currentParent);
-            if (parentMetrics != null) {
-                currentParent = parentMetrics.getParentClass();
-            } else {
+        int cached = ditCache.get(cm.getClassId(), -1);
+        if (cached >= 0) {
+            return cached;
+        }
+
+        // percorso dalla classe verso la radice; position: id -> indice nel percorso
+        int[] path = new int[8];
+        int length = 0;
+        IntIntMap position = new IntIntMap();
+        ClassMetrics current = cm;
+        int depth; // DIT dell'ultima classe del percorso
+        while (true) {
+            if (length == path.length) {
+                path = Arrays.copyOf(path, length * 2);
+            }
+            position.put(current.getClassId(), length);
+            path[length++] = current.getClassId();
+
+            int parent = current.getParentId();
+            if (parent < 0) {
+                depth = 0;
+                break;
+            }
+            int known = ditCache.get(parent, -1);
+            if (known >= 0) {
+                depth = known + 1;
+                break;
+            }
+            ClassMetrics parentMetrics = classesById.get(parent);
+            if (parentMetrics == null) {
+                depth = 1;
                 break;
             }
+            int cycleStart = position.get(parent, -1);
+            if (cycleStart >= 0) {
+                int size = length - cycleStart;
+                for (int i = cycleStart; i < length; i++) {
+                    ditCache.put(path[i], size - 1);
+                }
+                length = cycleStart;
+                depth = size;
+                break;
+            }
+            current = parentMetrics;
         }
-        return depth;
+
+        // assegna i valori risalendo il percorso dalla fine
+        for (int i = length - 1; i >= 0; i--) {
+            ditCache.put(path[i], depth++);
+        }
+        return ditCache.get(cm.getClassId(), -1);
     }
 
     // CBO: Coupling Between Object classes
@@ -63,45 +358,73 @@ public class MetricsCalculator {
     }
 
     // RFC: Response For a Class
+    // |metodi U invocati| = |metodi| + |invocati| - |metodi ∩ invocati|
     private int computeRFC(ClassMetrics cm) {
-        Set<String> responseSet = new HashSet<>();
-        responseSet.addAll(cm.getMethods());
-        responseSet.addAll(cm.getInvokedMethods());
-        return responseSet.size();
+        IntSet methods = cm.getMethods();
+        IntSet invoked = cm.getInvokedMethods();
+        return methods.size() + invoked.size() - methods.intersectionSize(invoked);
     }
 
     // LCOM: Lack of Cohesion of Methods
+    // I campi usati sono mappati su indici densi (posizione nell'array
+    // ordinato degli id) e i campi usati da ogni metodo diventano un
+    // bitset (long[]): il confronto di una coppia di metodi e' un AND
+    // parola per parola, senza allocazioni.
     private int computeLCOM(ClassMetrics cm) {
-        int lcom = 0;
-        List<Set<String>> accessedFieldsPerMethod = new ArrayList<>();
+        int n = cm.getMethods().size();
+        if (n < 2) {
+            return 0;
+        }
 
-        for (String method : cm.getMethods()) {
-            Set<String> accessedFields = cm.getMethodToAccessedFields().getOrDefault(method, Collections.emptySet());
-            accessedFieldsPerMethod.add(accessedFields);
+        int[] methods = cm.getMethods().toArray();
+        IntSet[] accessedFieldsPerMethod = new IntSet[n];
+        IntSet used = new IntSet();
+        for (int m = 0; m < n; m++) {
+            IntSet accessedFields = cm.getMethodToAccessedFields().get(methods[m]);
+            accessedFieldsPerMethod[m] = accessedFields == null ? EMPTY : accessedFields;
+            used.addAll(accessedFieldsPerMethod[m]);
+        }
+        int[] fieldIds = used.toArray();
+        Arrays.sort(fieldIds);
+
+        int words = (fieldIds.length + 63) >>> 6;
+        long[] bits = new long[n * words];
+        for (int m = 0; m < n; m++) {
+            int base = m * words;
+            accessedFieldsPerMethod[m].forEach(field -> {
+                int id = Arrays.binarySearch(fieldIds, field);
+                bits[base + (id >>> 6)] |= 1L << id;
+            });
         }
 
-        int n = accessedFieldsPerMethod.size();
         int np = 0; // number of method pairs with shared fields
         int nq = 0; // number of method pairs with no shared fields
 
         for (int i = 0; i < n; i++) {
-            for (int j = i+1; j < n; j++) {
-                Set<String> intersection = new HashSet<>(accessedFieldsPerMethod.get(i));
-                intersection.retainAll(accessedFieldsPerMethod.get(j));
-                if (intersection.isEmpty()) {
-                    nq++;
-                } else {
+            for (int j = i + 1; j < n; j++) {
+                if (intersects(bits, i * words, j * words, words)) {
                     np++;
+                } else {
+                    nq++;
                 }
             }
         }
 
-        lcom = nq - np;
+        int lcom = nq - np;
         if (lcom < 0) lcom = 0;
 
         return lcom;
     }
 
+    private static boolean intersects(long[] bits, int a, int b, int words) {
+        for (int w = 0; w < words; w++) {
+            if ((bits[a + w] & bits[b + w]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Calcola il valore della metrica CBO avanzata.
      * Formula:
@@ -113,62 +436,29 @@ public class MetricsCalculator {
      */
     public int ComputeAdvancedCBO(ClassMetrics cmo) {
         // Passaggio 0: riprendo couplingOut classi usate da questa classe
-        Set<String> couplingOut = cmo.getCoupledClasses();
-        // Passaggio 1: costruisco mappa da classe -> set di classi che la usano (couplingIn)
-        Set<String> couplingIn = new HashSet<>();
-
-        for (ClassMetrics cm : classMetricsMap.values()) {
-            if (cm.getCoupledClasses().contains(cmo.getClassName())) {
-                couplingIn.add(cm.getClassName());
-            }
-        }
-        Set<String> couplingInOut = new HashSet<>();
+        IntSet couplingOut = cmo.getCoupledClasses();
+        // Passaggio 1: couplingIn dall'indice inverso, senza scandire tutte le classi
+        IntSet couplingIn = couplingInIndex.getOrDefault(cmo.getClassId(), EMPTY);
 
-        // Passaggio 2: calcola intersezione couplingInOut per ogni classe
-        for (String cls : couplingOut) {
-            if (couplingIn.contains(cls)) {
-                couplingInOut.add(cls);
-            }
-        }
-        return couplingOut.size() + couplingIn.size() - couplingInOut.size();
+        // Passaggio 2: calcola |couplingInOut| scorrendo l'insieme piu' piccolo
+        int couplingInOut = couplingOut.intersectionSize(couplingIn);
+        return couplingOut.size() + couplingIn.size() - couplingInOut;
     }
 
 
     public void exportMetricsToCSV(String filename) {
-        try (FileWriter writer = new FileWriter(filename)) {
-            // Intestazione colonne
-            writer.append("ClassName,WMC,DIT,NOC,CBO,AdvCBO,RFC,LCOM\n");
-
-            // Per ogni classe calcola metriche e scrive riga CSV
-            for (ClassMetrics cm : classMetricsMap.values()) {
-                String className = cm.getClassName();
-
-                int wmc = computeWMC(cm);
-                int dit = computeDIT(cm);
-                int noc = cm.getChildren().size();
-                int cbo = computeCBO(cm);
-                int advCbo = ComputeAdvancedCBO(cm);
-                int rfc = computeRFC(cm);
-                int lcom = computeLCOM(cm);
-
-                writer.append(className).append(",")
-                        .append(String.valueOf(wmc)).append(",")
-                        .append(String.valueOf(dit)).append(",")
-                        .append(String.valueOf(noc)).append(",")
-                        .append(String.valueOf(cbo)).append(",")
-                        .append(String.valueOf(advCbo)).append(",")
-                        .append(String.valueOf(rfc)).append(",")
-                        .append(String.valueOf(lcom)).append("\n");
-            }
-
-            writer.flush();
-            System.out.println("Metriche esportate correttamente su " + filename);
+        exportMetricsToCSV(filename, Metric.all());
+    }
+
+    public void exportMetricsToCSV(String filename, Set<Metric> metrics) {
+        try {
+            new CsvReporter(filename, metrics).report(calculate());
+            Log.info("Metriche esportate correttamente su {}", filename);
         } catch (IOException e) {
             e.printStackTrace();
-            System.err.println("Errore durante l'esportazione delle metriche su file CSV.");
+            Log.error("Errore durante l'esportazione delle metriche su file CSV.");
         }
     }
 
 
 }
-
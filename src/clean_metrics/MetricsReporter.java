@@ -0,0 +1,13 @@
+package clean_metrics;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Formato di output dei risultati. Ogni reporter riceve le righe gia'
+ * calcolate, quindi aggiungere un formato non ricalcola le metriche.
+ */
+public interface MetricsReporter {
+
+    void report(List<MetricsResult> results) throws IOException;
+}
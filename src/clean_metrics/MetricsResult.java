@@ -0,0 +1,60 @@
+package clean_metrics;
+
+/**
+ * Riga di risultati per una classe: le metriche vengono calcolate una sola
+ * volta da MetricsCalculator e poi lette da qualsiasi MetricsReporter.
+ */
+public final class MetricsResult {
+
+    private final String className;
+    private final int wmc;
+    private final int dit;
+    private final int noc;
+    private final int cbo;
+    private final int advCbo;
+    private final int rfc;
+    private final int lcom;
+
+    public MetricsResult(String className, int wmc, int dit, int noc, int cbo, int advCbo, int rfc, int lcom) {
+        this.className = className;
+        this.wmc = wmc;
+        this.dit = dit;
+        this.noc = noc;
+        this.cbo = cbo;
+        this.advCbo = advCbo;
+        this.rfc = rfc;
+        this.lcom = lcom;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public int getWMC() {
+        return wmc;
+    }
+
+    public int getDIT() {
+        return dit;
+    }
+
+    public int getNOC() {
+        return noc;
+    }
+
+    public int getCBO() {
+        return cbo;
+    }
+
+    public int getAdvCBO() {
+        return advCbo;
+    }
+
+    public int getRFC() {
+        return rfc;
+    }
+
+    public int getLCOM() {
+        return lcom;
+    }
+}
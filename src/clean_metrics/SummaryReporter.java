@@ -0,0 +1,47 @@
+package clean_metrics;
+
+import log.Log;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Output su console di default: numero di classi e, per ogni metrica,
+ * media e massimo (con la classe che lo raggiunge), a livello INFO.
+ * Il costo non dipende dal numero di classi; la tabella per classe
+ * (ConsoleReporter) si stampa solo con --table o a livello debug.
+ */
+public class SummaryReporter implements MetricsReporter {
+
+    private final Set<Metric> metrics;
+
+    public SummaryReporter(Set<Metric> metrics) {
+        this.metrics = EnumSet.copyOf(metrics);
+    }
+
+    @Override
+    public void report(List<MetricsResult> results) {
+        if (!Log.isEnabled(Log.Level.INFO)) {
+            return;
+        }
+        Log.info("Java Parser Version 1.1:  {} classes", results.size());
+        if (results.isEmpty()) {
+            return;
+        }
+        for (Metric m : metrics) {
+            long sum = 0;
+            MetricsResult max = results.get(0);
+            for (MetricsResult r : results) {
+                int value = m.valueOf(r);
+                sum += value;
+                if (value > m.valueOf(max)) {
+                    max = r;
+                }
+            }
+            String mean = String.format(Locale.ROOT, "%.2f", (double) sum / results.size());
+            Log.info("  " + m.label() + ": mean {}, max {} ({})", mean, m.valueOf(max), max.getClassName());
+        }
+    }
+}
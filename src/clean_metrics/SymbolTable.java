@@ -0,0 +1,119 @@
+package clean_metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabella dei simboli di un'analisi: ogni nome (classe, metodo, campo) viene
+ * internato una sola volta e riceve un id intero denso (0, 1, 2, ...).
+ * I ClassMetrics conservano solo gli id, quindi insiemi e confronti del
+ * modello lavorano su interi; il nome si recupera con name(id).
+ *
+ * Oltre alla mappa per nome c'e' un indice a indirizzamento aperto sugli
+ * hash dei nomi, con cui lookup(name, from, to) cerca una parte di una
+ * stringa (ad es. il campo in "a.b.campo") senza creare la sottostringa.
+ *
+ * Thread-safe: i worker di ProjectAnalyzer internano in parallelo.
+ * Ogni ProjectAnalyzer ha la sua tabella; gli id di tabelle diverse non
+ * sono confrontabili.
+ */
+public final class SymbolTable {
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    // scritto solo sotto lock; volatile perche' name() legge senza lock
+    private volatile String[] names = new String[1024];
+    private int size;
+    // id + 1 per posizione (0 = libera), stesso hash di String.hashCode;
+    // scritto solo sotto lock, prima di pubblicare il nome in ids
+    private volatile int[] index = new int[2048];
+
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(name);
+            if (id == null) {
+                id = size;
+                String[] current = names;
+                if (id == current.length) {
+                    current = Arrays.copyOf(current, current.length * 2);
+                }
+                current[id] = name;
+                names = current;
+                size++;
+                addToIndex(name.hashCode(), id);
+                ids.put(name, id);
+            }
+            return id;
+        }
+    }
+
+    // id del nome, -1 se non e' mai stato internato (non lo aggiunge)
+    public int lookup(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    // id di name[from, to), -1 se non e' mai stato internato; non crea stringhe.
+    // Un nome internato da questo thread, o da un altro prima di un
+    // intern/lookup che lo ha restituito qui, viene sempre trovato.
+    public int lookup(String name, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + name.charAt(i);
+        }
+        int length = to - from;
+        int[] table = index;
+        String[] current = names;
+        int mask = table.length - 1;
+        for (int slot = mix(h) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            int id = entry - 1;
+            String candidate = id < current.length ? current[id] : null;
+            if (candidate != null && candidate.length() == length && candidate.regionMatches(0, name, from, length)) {
+                return id;
+            }
+        }
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // chiamato sotto lock; raddoppia l'indice oltre meta' riempimento
+    private void addToIndex(int hash, int id) {
+        int[] table = index;
+        if (size * 2 > table.length) {
+            int[] grown = new int[table.length * 2];
+            String[] current = names;
+            for (int i = 0; i < size - 1; i++) {
+                insert(grown, current[i].hashCode(), i);
+            }
+            table = grown;
+        }
+        insert(table, hash, id);
+        index = table;
+    }
+
+    private static void insert(int[] table, int hash, int id) {
+        int mask = table.length - 1;
+        int slot = mix(hash) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = id + 1;
+    }
+
+    private static int mix(int h) {
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,28 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Calcolo di una metrica su tutte le classi da (ri)calcolare. */
+@Name("oometrics.MetricCalculation")
+@Label("Metric Calculation")
+@Category({"OO Metrics", "Metrics"})
+@Description("One metric computed for every class being (re)calculated")
+public class MetricCalculationEvent extends jdk.jfr.Event {
+
+    private static final EventType TYPE = EventType.getEventType(MetricCalculationEvent.class);
+
+    @Label("Metric")
+    public String metric;
+
+    @Label("Classes")
+    public int classes;
+
+    // il calcolatore passa a un calcolo per colonne solo se l'evento e' registrato
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+}
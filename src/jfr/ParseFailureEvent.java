@@ -0,0 +1,24 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** File scartato per ParseException o TokenMgrError; la durata va dalla lettura all'errore. */
+@Name("oometrics.ParseFailure")
+@Label("Parse Failure")
+@Category({"OO Metrics", "Parser"})
+@Description("A source file rejected by the lexer or the parser")
+public class ParseFailureEvent extends jdk.jfr.Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Error")
+    @Description("ParseException or TokenMgrError")
+    public String error;
+
+    @Label("Message")
+    public String message;
+}
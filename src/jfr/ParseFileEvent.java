@@ -0,0 +1,30 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Parsing di un file, dalla CompilationUnit ai corpi rinviati compresi. */
+@Name("oometrics.ParseFile")
+@Label("Parse File")
+@Category({"OO Metrics", "Parser"})
+@Description("Parsing of one source file, deferred method bodies included")
+public class ParseFileEvent extends jdk.jfr.Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Tokens")
+    @Description("Tokens of the file, comments excluded")
+    public long tokens;
+
+    @Label("Bodies Skipped")
+    @Description("Method bodies skipped because no requested metric needs them")
+    public boolean bodiesSkipped;
+}
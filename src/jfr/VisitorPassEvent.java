@@ -0,0 +1,24 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Visita dell'AST di un file che ne estrae i dati per classe. */
+@Name("oometrics.VisitorPass")
+@Label("Visitor Pass")
+@Category({"OO Metrics", "Visitor"})
+@Description("Traversal of the AST of one file collecting per-class data")
+public class VisitorPassEvent extends jdk.jfr.Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Visitor")
+    public String visitor;
+
+    @Label("Classes")
+    @Description("Classes declared in the file")
+    public int classes;
+}
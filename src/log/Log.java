@@ -0,0 +1,147 @@
+package log;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Log a livelli dell'analizzatore, senza dipendenze.
+ *
+ * I messaggi sono modelli con segnaposto "{}" e argomenti separati: se il
+ * livello e' disattivato la chiamata legge solo il livello corrente e non
+ * costruisce alcuna stringa (overload fino a tre argomenti, senza array
+ * varargs). Dove anche calcolare gli argomenti costa, il chiamante puo'
+ * controllare prima isDebugEnabled().
+ *
+ * Il livello di default e' INFO: riepiloghi ed errori, niente dettagli per
+ * campo o per metodo. ERROR e WARN vanno su System.err, gli altri su
+ * System.out.
+ */
+public final class Log {
+
+    public enum Level {
+        OFF, ERROR, WARN, INFO, DEBUG;
+
+        public static Level parse(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Livello di log sconosciuto: " + name);
+            }
+        }
+    }
+
+    private static volatile Level level = Level.INFO;
+
+    private Log() {
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static void setLevel(Level level) {
+        Log.level = level;
+    }
+
+    public static boolean isEnabled(Level l) {
+        return l.compareTo(level) <= 0 && l != Level.OFF;
+    }
+
+    public static boolean isDebugEnabled() {
+        return level == Level.DEBUG;
+    }
+
+    // ----------------------------
+    // DEBUG
+    // ----------------------------
+    public static void debug(String message) {
+        if (isDebugEnabled()) {
+            write(Level.DEBUG, message);
+        }
+    }
+
+    public static void debug(String pattern, Object a) {
+        if (isDebugEnabled()) {
+            write(Level.DEBUG, format(pattern, a, null, null));
+        }
+    }
+
+    public static void debug(String pattern, Object a, Object b) {
+        if (isDebugEnabled()) {
+            write(Level.DEBUG, format(pattern, a, b, null));
+        }
+    }
+
+    public static void debug(String pattern, Object a, Object b, Object c) {
+        if (isDebugEnabled()) {
+            write(Level.DEBUG, format(pattern, a, b, c));
+        }
+    }
+
+    // ----------------------------
+    // INFO, WARN, ERROR
+    // ----------------------------
+    public static void info(String message) {
+        if (isEnabled(Level.INFO)) {
+            write(Level.INFO, message);
+        }
+    }
+
+    public static void info(String pattern, Object a) {
+        if (isEnabled(Level.INFO)) {
+            write(Level.INFO, format(pattern, a, null, null));
+        }
+    }
+
+    public static void info(String pattern, Object a, Object b) {
+        if (isEnabled(Level.INFO)) {
+            write(Level.INFO, format(pattern, a, b, null));
+        }
+    }
+
+    public static void info(String pattern, Object a, Object b, Object c) {
+        if (isEnabled(Level.INFO)) {
+            write(Level.INFO, format(pattern, a, b, c));
+        }
+    }
+
+    public static void warn(String pattern, Object a, Object b) {
+        if (isEnabled(Level.WARN)) {
+            write(Level.WARN, format(pattern, a, b, null));
+        }
+    }
+
+    public static void error(String message) {
+        if (isEnabled(Level.ERROR)) {
+            write(Level.ERROR, message);
+        }
+    }
+
+    public static void error(String pattern, Object a, Object b) {
+        if (isEnabled(Level.ERROR)) {
+            write(Level.ERROR, format(pattern, a, b, null));
+        }
+    }
+
+    // ----------------------------
+    // SCRITTURA
+    // ----------------------------
+    private static void write(Level l, String message) {
+        PrintStream out = l.compareTo(Level.WARN) <= 0 ? System.err : System.out;
+        out.println(message);
+    }
+
+    // sostituisce i "{}" nell'ordine con a, b, c
+    static String format(String pattern, Object a, Object b, Object c) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 32);
+        int arg = 0;
+        int from = 0;
+        int at;
+        while ((at = pattern.indexOf("{}", from)) >= 0 && arg < 3) {
+            sb.append(pattern, from, at).append(arg == 0 ? a : arg == 1 ? b : c);
+            arg++;
+            from = at + 2;
+        }
+        return sb.append(pattern, from, pattern.length()).toString();
+    }
+}
@@ -1,5 +1,7 @@
 package metrics;
 
+import log.Log;
+
 import java.util.*;
 
 public class ClassMetrics {
@@ -42,7 +44,10 @@ public class ClassMetrics {
     public int getDIT(Map<String, ClassMetrics> all) {
         int depth = 0;
         String current = parentClass;
-        while (current != null && all.containsKey(current)) {
+        // evita il ciclo infinito su extends ciclici (input malformato)
+        Set<String> visited = new HashSet<>();
+        visited.add(className);
+        while (current != null && all.containsKey(current) && visited.add(current)) {
             depth++;
             current = all.get(current).getParentClass();
         }
@@ -98,11 +103,13 @@ public class ClassMetrics {
             lcom = 0;
         }
 
-        System.out.println("LCOM debug for class: " + className);
-        for (String method : methods) {
-            System.out.println("  Method: " + method + " -> fields: " + methodToAccessedFields.get(method));
+        if (Log.isDebugEnabled()) {
+            Log.debug("LCOM debug for class: {}", className);
+            for (String method : methods) {
+                Log.debug("  Method: {} -> fields: {}", method, methodToAccessedFields.get(method));
+            }
+            Log.debug("  Total method pairs: {}, no shared fields: {}, LCOM: {}", methodPairs, noSharedAttributes, lcom);
         }
-        System.out.println("  Total method pairs: " + methodPairs + ", no shared fields: " + noSharedAttributes + ", LCOM: " + lcom);
     }
 
 
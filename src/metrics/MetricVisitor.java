@@ -1,5 +1,6 @@
 package metrics;
 
+import log.Log;
 import parser.*;
 
 import java.util.HashMap;
@@ -134,7 +135,7 @@ public class MetricVisitor extends JavaParserDefaultVisitor {
                             String fieldName = ((ASTVariableDeclaratorId) grandChild).getImage();
                             classMetrics.fields.add(fieldName);
                             classMetrics.incrementAttributeCount();
-                            System.out.println("Campo trovato nella classe " + currentClass + ": " + fieldName);
+                            Log.debug("Campo trovato nella classe {}: {}", currentClass, fieldName);
                         }
                     }
                 }
@@ -161,7 +162,7 @@ public class MetricVisitor extends JavaParserDefaultVisitor {
                     if (classMetrics.fields.contains(fieldName)) {
                         classMetrics.methodToAccessedFields.putIfAbsent(currentMethodName, new HashSet<>());  // <--- qui
                         classMetrics.methodToAccessedFields.get(currentMethodName).add(fieldName);
-                        System.out.println("Metodo " + currentMethodName + " usa campo: " + fieldName);
+                        Log.debug("Metodo {} usa campo: {}", currentMethodName, fieldName);
                     }
                 }
             }
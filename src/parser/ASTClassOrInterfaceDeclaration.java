@@ -3,7 +3,7 @@
 package parser;
 
 public
-class ASTClassOrInterfaceDeclaration extends SimpleNode {
+class ASTClassOrInterfaceDeclaration extends SimpleNode implements HasImage {
   private String image;
   public ASTClassOrInterfaceDeclaration(int id) {
     super(id);
@@ -3,7 +3,7 @@
 package parser;
 
 public
-class ASTClassOrInterfaceType extends SimpleNode {
+class ASTClassOrInterfaceType extends SimpleNode implements HasImage {
 
   private String image;
   public ASTClassOrInterfaceType(int id) {
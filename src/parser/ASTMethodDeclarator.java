@@ -3,7 +3,7 @@
 package parser;
 
 public
-class ASTMethodDeclarator extends SimpleNode {
+class ASTMethodDeclarator extends SimpleNode implements HasImage {
   private String image;
   public ASTMethodDeclarator(int id) {
     super(id);
@@ -3,7 +3,7 @@
 package parser;
 
 public
-class ASTName extends SimpleNode {
+class ASTName extends SimpleNode implements HasImage {
 
   private String image;
   public ASTName(int id) {
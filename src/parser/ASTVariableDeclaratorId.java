@@ -3,7 +3,7 @@
 package parser;
 
 public
-class ASTVariableDeclaratorId extends SimpleNode {
+class ASTVariableDeclaratorId extends SimpleNode implements HasImage {
 
   public String getImage() {
     return image;
@@ -0,0 +1,33 @@
+package parser;
+
+/**
+ * A JavaParserTokenManager that builds the images of its tokens through
+ * the TokenImages of an ArrayCharStream, if one is set.
+ *
+ * Only jjFillToken, where tokens are built, is replaced: GetImage() keeps
+ * returning the real text, so lexical errors (e.g. an unterminated
+ * comment) still report what was actually read. With another stream, or
+ * without TokenImages, tokens are built as by JavaParserTokenManager.
+ */
+public class ArrayTokenManager extends JavaParserTokenManager
+{
+   public ArrayTokenManager(ArrayCharStream stream)
+   {
+      super(stream);
+   }
+
+   @Override
+   protected Token jjFillToken()
+   {
+      if (!(input_stream instanceof ArrayCharStream) || jjstrLiteralImages[jjmatchedKind] != null)
+         return super.jjFillToken();
+
+      ArrayCharStream stream = (ArrayCharStream) input_stream;
+      Token t = MyToken.newToken(jjmatchedKind, stream.tokenImage(jjmatchedKind));
+      t.beginLine = stream.getBeginLine();
+      t.endLine = stream.getEndLine();
+      t.beginColumn = stream.getBeginColumn();
+      t.endColumn = stream.getEndColumn();
+      return t;
+   }
+}
@@ -0,0 +1,275 @@
+package parser;
+
+import java.util.Arrays;
+
+/**
+ * Compact, array-backed AST for one file.
+ *
+ * Nodes live in parallel int arrays indexed by node number: the JJTree
+ * node id (kind), first child, next sibling, parent and the range of
+ * tokens the node covers. The only objects are the images of the few
+ * node types that carry one (names, declarators). Nodes are numbered in
+ * the order they are closed, so children always precede their parent
+ * and the root is the last node.
+ *
+ * A tree is filled by the parser when set with JavaParser.setCompactTree
+ * and is cleared by every parser ReInit, so one instance per worker can
+ * be reused across files without reallocating its arrays.
+ */
+public class CompactTree implements JavaParserTreeConstants
+{
+    public static final int NONE = -1;
+
+    private int[] kind = new int[1024];
+    private int[] firstChild = new int[1024];
+    private int[] nextSibling = new int[1024];
+    private int[] parent = new int[1024];
+    private int[] tokenStart = new int[1024];
+    private int[] tokenEnd = new int[1024];
+    private String[] image = new String[1024];
+    private int size;
+
+    /** Token indexing: last token reached and its index (-1 before the first). */
+    private Token lastToken;
+    private int lastTokenIndex;
+
+    public void clear()
+    {
+        Arrays.fill(image, 0, size, null);
+        size = 0;
+        lastToken = null;
+        lastTokenIndex = -1;
+    }
+
+    /** @return number of nodes. */
+    public int size()
+    {
+        return size;
+    }
+
+    /** @return the root (CompilationUnit after a successful parse), NONE if empty. */
+    public int root()
+    {
+        return size == 0 ? NONE : size - 1;
+    }
+
+    public int kind(int node)
+    {
+        return kind[node];
+    }
+
+    public String image(int node)
+    {
+        return image[node];
+    }
+
+    public int firstChild(int node)
+    {
+        return firstChild[node];
+    }
+
+    public int nextSibling(int node)
+    {
+        return nextSibling[node];
+    }
+
+    public int parent(int node)
+    {
+        return parent[node];
+    }
+
+    /** @return index of the first token of the node (0 is the first token of the file). */
+    public int tokenStart(int node)
+    {
+        return tokenStart[node];
+    }
+
+    /** @return index of the last token; tokenEnd < tokenStart for an empty node. */
+    public int tokenEnd(int node)
+    {
+        return tokenEnd[node];
+    }
+
+    public int numChildren(int node)
+    {
+        int n = 0;
+        for (int c = firstChild[node]; c != NONE; c = nextSibling[c])
+            n++;
+        return n;
+    }
+
+    /** @return the first child of the given kind, NONE if there is none. */
+    public int firstChild(int node, int childKind)
+    {
+        for (int c = firstChild[node]; c != NONE; c = nextSibling[c])
+            if (kind[c] == childKind)
+                return c;
+        return NONE;
+    }
+
+    public String toString(int node)
+    {
+        return jjtNodeName[kind[node]];
+    }
+
+    public Cursor cursor()
+    {
+        return new Cursor();
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Building, called by JJTJavaParserState.                             */
+    /* ------------------------------------------------------------------ */
+
+    /* Index of a token already consumed by the parser. Tokens are only
+       ever reached moving forward, so walking the next chain from the
+       last indexed token costs O(1) amortised per token. */
+    int tokenIndex(Token t)
+    {
+        if (lastToken == null)
+        {
+            // the parser starts from a dummy token that precedes the first one
+            lastToken = t;
+            lastTokenIndex = -1;
+        }
+        while (lastToken != t)
+        {
+            lastToken = lastToken.next;
+            lastTokenIndex++;
+        }
+        return lastTokenIndex;
+    }
+
+    /* Adds a node whose children are children[from .. from+count-1], in order. */
+    int add(int nodeKind, String nodeImage, int[] children, int from, int count, int start, int end)
+    {
+        if (size == kind.length)
+            grow();
+        int node = size++;
+        kind[node] = nodeKind;
+        image[node] = nodeImage;
+        tokenStart[node] = start;
+        tokenEnd[node] = end;
+        parent[node] = NONE;
+        nextSibling[node] = NONE;
+        firstChild[node] = count == 0 ? NONE : children[from];
+        for (int i = 0; i < count; i++)
+        {
+            int child = children[from + i];
+            parent[child] = node;
+            nextSibling[child] = i + 1 < count ? children[from + i + 1] : NONE;
+        }
+        return node;
+    }
+
+    private void grow()
+    {
+        int capacity = kind.length * 2;
+        kind = Arrays.copyOf(kind, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        tokenStart = Arrays.copyOf(tokenStart, capacity);
+        tokenEnd = Arrays.copyOf(tokenEnd, capacity);
+        image = Arrays.copyOf(image, capacity);
+    }
+
+    /* ------------------------------------------------------------------ */
+    /* Traversal.                                                          */
+    /* ------------------------------------------------------------------ */
+
+    /**
+     * Callbacks of a depth-first walk. enter returns false to skip the
+     * children of the node (exit is still called).
+     */
+    public interface Visitor
+    {
+        boolean enter(CompactTree tree, int node) throws Exception;
+
+        void exit(CompactTree tree, int node) throws Exception;
+    }
+
+    /** Depth-first walk from the root, without recursion. */
+    public void accept(Visitor visitor) throws Exception
+    {
+        if (size > 0)
+            accept(root(), visitor);
+    }
+
+    public void accept(int from, Visitor visitor) throws Exception
+    {
+        int node = from;
+        while (true)
+        {
+            if (visitor.enter(this, node) && firstChild[node] != NONE)
+            {
+                node = firstChild[node];
+                continue;
+            }
+            // no children (or skipped): exit and move to the next sibling,
+            // climbing up as long as there is none
+            while (true)
+            {
+                visitor.exit(this, node);
+                if (node == from)
+                    return;
+                if (nextSibling[node] != NONE)
+                {
+                    node = nextSibling[node];
+                    break;
+                }
+                node = parent[node];
+            }
+        }
+    }
+
+    /** A movable position in the tree, for hand-written navigation. */
+    public final class Cursor
+    {
+        private int node = root();
+
+        public int node()
+        {
+            return node;
+        }
+
+        public int kind()
+        {
+            return kind[node];
+        }
+
+        public String image()
+        {
+            return image[node];
+        }
+
+        public Cursor moveTo(int target)
+        {
+            node = target;
+            return this;
+        }
+
+        public boolean toFirstChild()
+        {
+            return move(firstChild[node]);
+        }
+
+        public boolean toNextSibling()
+        {
+            return move(nextSibling[node]);
+        }
+
+        public boolean toParent()
+        {
+            return move(parent[node]);
+        }
+
+        private boolean move(int target)
+        {
+            if (target == NONE)
+                return false;
+            node = target;
+            return true;
+        }
+    }
+}
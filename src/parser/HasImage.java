@@ -0,0 +1,10 @@
+package parser;
+
+/**
+ * Nodes that keep the image of a token (a name, a declarator): the
+ * compact tree copies it when the node is closed.
+ */
+public interface HasImage
+{
+    String getImage();
+}
@@ -2,16 +2,28 @@
 package parser;
 
 public class JJTJavaParserState {
-  private java.util.List<Node> nodes;
-  private java.util.List<Integer> marks;
+  /* Node and mark stacks are plain arrays, grown geometrically and kept
+     across ReInit, so building the tree boxes nothing and allocates
+     only the nodes themselves once the stacks have reached the depth of
+     the deepest file. */
+  private Node[] nodes = new Node[256];
+  private int[] marks = new int[64];
 
   private int sp;        // number of nodes on stack
   private int mk;        // current mark
+  private int depth;     // number of marks on stack (open node scopes)
   private boolean node_created;
 
+  /* Compact mode (see CompactTree): closed nodes are recorded in the
+     tree instead of being linked to their children. For each node on
+     the stack, the number it got in the tree; for each open scope, the
+     index of its first token. */
+  private CompactTree compact;
+  private JavaParser parser;
+  private int[] compactNodes = new int[256];
+  private int[] scopeStarts = new int[64];
+
   public JJTJavaParserState() {
-    nodes = new java.util.ArrayList<Node>();
-    marks = new java.util.ArrayList<Integer>();
     sp = 0;
     mk = 0;
   }
@@ -26,36 +38,67 @@ public class JJTJavaParserState {
   /* Call this to reinitialize the node stack.  It is called
      automatically by the parser's ReInit() method. */
   public void reset() {
-    nodes.clear();
-    marks.clear();
+    java.util.Arrays.fill(nodes, 0, sp, null);
     sp = 0;
     mk = 0;
+    depth = 0;
+    if (compact != null) {
+      compact.clear();
+    }
+  }
+
+  /* Switches compact mode on (tree != null) or off for the next parse. */
+  public void setCompactTree(CompactTree tree, JavaParser p) {
+    compact = tree;
+    parser = p;
+    if (tree != null) {
+      tree.clear();
+    }
   }
 
   /* Returns the root node of the AST.  It only makes sense to call
      this after a successful parse. */
   public Node rootNode() {
-    return nodes.get(0);
+    return nodes[0];
   }
 
   /* Pushes a node on to the stack. */
   public void pushNode(Node n) {
-    nodes.add(n);
-    ++sp;
+    if (sp == nodes.length) {
+      nodes = java.util.Arrays.copyOf(nodes, sp * 2);
+    }
+    nodes[sp++] = n;
   }
 
   /* Returns the node on the top of the stack, and remove it from the
      stack.  */
   public Node popNode() {
     if (--sp < mk) {
-      mk = marks.remove(marks.size()-1);
+      mk = popMark();
     }
-    return nodes.remove(nodes.size()-1);
+    Node n = nodes[sp];
+    nodes[sp] = null;
+    return n;
   }
 
   /* Returns the node currently on the top of the stack. */
   public Node peekNode() {
-    return nodes.get(nodes.size()-1);
+    return nodes[sp-1];
+  }
+
+  /* Appends the nodes left on the stack after a top-level parse to n,
+     in order, and empties the stack. Used to graft a lazily parsed body
+     onto the node that owns it. */
+  public void appendNodes(Node n) {
+    int first = n.jjtGetNumChildren();
+    for (int i = sp - 1; i >= 0; i--) {
+      Node c = nodes[i];
+      nodes[i] = null;
+      c.jjtSetParent(n);
+      n.jjtAddChild(c, first + i);
+    }
+    sp = 0;
+    mk = 0;
   }
 
   /* Returns the number of children on the stack in the current node
@@ -69,23 +112,61 @@ public class JJTJavaParserState {
     while (sp > mk) {
       popNode();
     }
-    mk = marks.remove(marks.size()-1);
+    mk = popMark();
   }
 
 
   public void openNodeScope(Node n) {
-    marks.add(mk);
+    if (depth == marks.length) {
+      marks = java.util.Arrays.copyOf(marks, depth * 2);
+    }
+    marks[depth] = mk;
+    if (compact != null) {
+      if (depth == scopeStarts.length) {
+        scopeStarts = java.util.Arrays.copyOf(scopeStarts, depth * 2);
+      }
+      scopeStarts[depth] = compact.tokenIndex(parser.token) + 1;
+    }
+    depth++;
     mk = sp;
     n.jjtOpen();
   }
 
+  private int popMark() {
+    return marks[--depth];
+  }
+
+  /* Compact mode: records n with the num nodes on top of the stack as
+     children, then replaces them on the stack with n. */
+  private void closeCompact(Node n, int num) {
+    int start = scopeStarts[depth - 1];
+    mk = popMark();
+    int end = compact.tokenIndex(parser.token);
+    String image = n instanceof HasImage ? ((HasImage) n).getImage() : null;
+    int node = compact.add(n.getId(), image, compactNodes, sp - num, num, start, end);
+    while (num-- > 0) {
+      popNode();
+    }
+    n.jjtClose();
+    pushNode(n);
+    if (sp > compactNodes.length) {
+      compactNodes = java.util.Arrays.copyOf(compactNodes, compactNodes.length * 2);
+    }
+    compactNodes[sp - 1] = node;
+    node_created = true;
+  }
+
 
   /* A definite node is constructed from a specified number of
      children.  That number of nodes are popped from the stack and
      made the children of the definite node.  Then the definite node
      is pushed on to the stack. */
   public void closeNodeScope(Node n, int num) {
-    mk = marks.remove(marks.size()-1);
+    if (compact != null) {
+      closeCompact(n, num);
+      return;
+    }
+    mk = popMark();
     while (num-- > 0) {
       Node c = popNode();
       c.jjtSetParent(n);
@@ -104,8 +185,12 @@ public class JJTJavaParserState {
      constructed and they are left on the stack. */
   public void closeNodeScope(Node n, boolean condition) {
     if (condition) {
+      if (compact != null) {
+        closeCompact(n, nodeArity());
+        return;
+      }
       int a = nodeArity();
-      mk = marks.remove(marks.size()-1);
+      mk = popMark();
       while (a-- > 0) {
         Node c = popNode();
         c.jjtSetParent(n);
@@ -115,7 +200,7 @@ public class JJTJavaParserState {
       pushNode(n);
       node_created = true;
     } else {
-      mk = marks.remove(marks.size()-1);
+      mk = popMark();
       node_created = false;
     }
   }
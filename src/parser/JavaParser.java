@@ -102,6 +102,90 @@ public class JavaParser/*@bgen(jjtree)*/implements JavaParserTreeConstants, Java
       }
    }
 
+   /**
+    * Builds the AST of the following parses into tree (see CompactTree)
+    * instead of linking SimpleNode children; null restores the normal
+    * tree. Node objects are still created by the productions, but are
+    * dropped as soon as their scope is closed.
+    */
+   public void setCompactTree(CompactTree tree)
+   {
+      jjtree.setCompactTree(tree, this);
+   }
+
+   /**
+    * Skip-bodies mode: method, constructor and initializer bodies are
+    * consumed by matching braces at the token level, without building
+    * any node. Only declarations and signatures end up in the tree.
+    */
+   private boolean skipBodies;
+
+   public void setSkipBodies(boolean skip)
+   {
+      skipBodies = skip;
+   }
+
+   public boolean isSkippingBodies()
+   {
+      return skipBodies;
+   }
+
+   /* True when the next token opens a body to skip. Never during a
+      syntactic lookahead scan: scans keep seeing the full grammar and
+      make the same choices as a normal parse. */
+   private boolean skippingBody()
+   {
+      return skipBodies && !jj_lookingAhead && getToken(1).kind == LBRACE;
+   }
+
+   /** Bodies skipped in skip-bodies mode are recorded here (null: not recorded). */
+   private LazyBodies lazyBodies;
+
+   public void setLazyBodies(LazyBodies bodies)
+   {
+      lazyBodies = bodies;
+   }
+
+   /* Consumes the rest of the body of owner, whose "{" has just been
+      matched by the grammar (an alternative that consumes no token would
+      be rejected by javacc inside the (...)* loops of class bodies).
+      Braces inside literals and comments are already hidden by the lexer. */
+   private void skipBody(Node owner) throws ParseException
+   {
+      Token open = token;
+      int depth = 1;
+      while (depth > 0)
+      {
+         Token t = getNextToken();
+         if (t.kind == LBRACE)
+            depth++;
+         else if (t.kind == RBRACE)
+            depth--;
+         else if (t.kind == EOF)
+            throw new ParseException("Encountered end of file in the body starting at line "
+                  + open.beginLine + ", column " + open.beginColumn + ".");
+      }
+      if (lazyBodies != null)
+         lazyBodies.add(owner, open);
+   }
+
+   /* Parses a body recorded by LazyBodies. The parser restarts on the
+      tokens still linked from open, so nothing is lexed again, and the
+      nodes of the body are appended to owner as a normal parse would
+      have built them. */
+   void parseSkippedBody(Node owner, Token open) throws ParseException
+   {
+      token = new Token();
+      token.next = open;
+      jj_ntk = -1;
+      jjtree.reset();
+      if (owner instanceof ASTConstructorDeclaration)
+         ConstructorBody();
+      else
+         Block();
+      jjtree.appendNodes(owner);
+   }
+
 /*****************************************
  * THE JAVA LANGUAGE GRAMMAR STARTS HERE *
  *****************************************/
@@ -705,39 +789,9 @@ if (jjtc000) {
         jj_consume_token(SEMICOLON);
         label_7:
         while (true) {
-          switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-          case ABSTRACT:
-          case BOOLEAN:
-          case BYTE:
-          case CHAR:
-          case CLASS:
-          case DOUBLE:
-          case ENUM:
-          case FINAL:
-          case FLOAT:
-          case INT:
-          case INTERFACE:
-          case LONG:
-          case NATIVE:
-          case PRIVATE:
-          case PROTECTED:
-          case PUBLIC:
-          case SHORT:
-          case STATIC:
-          case STRICTFP:
-          case SYNCHRONIZED:
-          case TRANSIENT:
-          case VOID:
-          case VOLATILE:
-          case IDENTIFIER:
-          case LBRACE:
-          case SEMICOLON:
-          case AT:
-          case LT:{
+          if (jj_2_4(1)) {
             ;
-            break;
-            }
-          default:
+          } else {
             break label_7;
           }
           ClassOrInterfaceBodyDeclaration(false);
@@ -939,39 +993,9 @@ if (jjtc000) {
       jj_consume_token(LBRACE);
       label_10:
       while (true) {
-        switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-        case ABSTRACT:
-        case BOOLEAN:
-        case BYTE:
-        case CHAR:
-        case CLASS:
-        case DOUBLE:
-        case ENUM:
-        case FINAL:
-        case FLOAT:
-        case INT:
-        case INTERFACE:
-        case LONG:
-        case NATIVE:
-        case PRIVATE:
-        case PROTECTED:
-        case PUBLIC:
-        case SHORT:
-        case STATIC:
-        case STRICTFP:
-        case SYNCHRONIZED:
-        case TRANSIENT:
-        case VOID:
-        case VOLATILE:
-        case IDENTIFIER:
-        case LBRACE:
-        case SEMICOLON:
-        case AT:
-        case LT:{
+        if (jj_2_5(1)) {
           ;
-          break;
-          }
-        default:
+        } else {
           break label_10;
         }
         ClassOrInterfaceBodyDeclaration(isInterface);
@@ -1004,7 +1028,7 @@ if (jjtc000) {
    jjtree.openNodeScope(jjtn000);boolean isNestedInterface = false;
    int modifiers;
     try {
-      if (jj_2_6(2)) {
+      if (jj_2_8(2)) {
         Initializer();
 jjtree.closeNodeScope(jjtn000, true);
     jjtc000 = false;
@@ -1050,9 +1074,9 @@ if (isInterface)
             break;
             }
           default:
-            if (jj_2_4(2147483647)) {
+            if (jj_2_6(2147483647)) {
               ConstructorDeclaration();
-            } else if (jj_2_5(2147483647)) {
+            } else if (jj_2_7(2147483647)) {
               FieldDeclaration(modifiers);
             } else {
               switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
@@ -1321,7 +1345,7 @@ if (jjtc000) {
         VariableInitializer();
         label_13:
         while (true) {
-          if (jj_2_7(2)) {
+          if (jj_2_9(2)) {
             ;
           } else {
             break label_13;
@@ -1388,18 +1412,25 @@ if (jjtc000) {
       default:
         ;
       }
-      switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-      case LBRACE:{
-        Block();
-        break;
-        }
-      case SEMICOLON:{
-        jj_consume_token(SEMICOLON);
-        break;
+      if (skippingBody()) {
+        jj_consume_token(LBRACE);
+jjtree.closeNodeScope(jjtn000, true);
+                                        jjtc000 = false;
+skipBody(jjtn000);
+      } else {
+        switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
+        case LBRACE:{
+          Block();
+          break;
+          }
+        case SEMICOLON:{
+          jj_consume_token(SEMICOLON);
+          break;
+          }
+        default:
+          jj_consume_token(-1);
+          throw new ParseException();
         }
-      default:
-        jj_consume_token(-1);
-        throw new ParseException();
       }
     } catch (Throwable jjte000) {
 if (jjtc000) {
@@ -1612,74 +1643,22 @@ if (jjtc000) {
       default:
         ;
       }
-      jj_consume_token(LBRACE);
-      if (jj_2_8(2147483647)) {
-        ExplicitConstructorInvocation();
+      if (skippingBody()) {
+        jj_consume_token(LBRACE);
+jjtree.closeNodeScope(jjtn000, true);
+                                        jjtc000 = false;
+skipBody(jjtn000);
       } else {
-        ;
-      }
-      label_15:
-      while (true) {
         switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-        case ABSTRACT:
-        case ASSERT:
-        case BOOLEAN:
-        case BREAK:
-        case BYTE:
-        case CHAR:
-        case CLASS:
-        case CONTINUE:
-        case DO:
-        case DOUBLE:
-        case FALSE:
-        case FINAL:
-        case FLOAT:
-        case FOR:
-        case IF:
-        case INT:
-        case INTERFACE:
-        case LONG:
-        case NATIVE:
-        case NEW:
-        case NULL:
-        case PRIVATE:
-        case PROTECTED:
-        case PUBLIC:
-        case RETURN:
-        case SHORT:
-        case STATIC:
-        case STRICTFP:
-        case SUPER:
-        case SWITCH:
-        case SYNCHRONIZED:
-        case THIS:
-        case THROW:
-        case TRANSIENT:
-        case TRUE:
-        case TRY:
-        case VOID:
-        case VOLATILE:
-        case WHILE:
-        case INTEGER_LITERAL:
-        case FLOATING_POINT_LITERAL:
-        case CHARACTER_LITERAL:
-        case STRING_LITERAL:
-        case IDENTIFIER:
-        case LPAREN:
-        case LBRACE:
-        case SEMICOLON:
-        case AT:
-        case INCR:
-        case DECR:{
-          ;
+        case LBRACE:{
+          ConstructorBody();
           break;
           }
         default:
-          break label_15;
+          jj_consume_token(-1);
+          throw new ParseException();
         }
-        BlockStatement();
       }
-      jj_consume_token(RBRACE);
     } catch (Throwable jjte000) {
 if (jjtc000) {
       jjtree.clearNodeScope(jjtn000);
@@ -1701,6 +1680,77 @@ if (jjtc000) {
     }
 }
 
+  final public void ConstructorBody() throws ParseException {
+    jj_consume_token(LBRACE);
+    if (jj_2_10(2147483647)) {
+      ExplicitConstructorInvocation();
+    } else {
+      ;
+    }
+    label_15:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
+      case ABSTRACT:
+      case ASSERT:
+      case BOOLEAN:
+      case BREAK:
+      case BYTE:
+      case CHAR:
+      case CLASS:
+      case CONTINUE:
+      case DO:
+      case DOUBLE:
+      case FALSE:
+      case FINAL:
+      case FLOAT:
+      case FOR:
+      case IF:
+      case INT:
+      case INTERFACE:
+      case LONG:
+      case NATIVE:
+      case NEW:
+      case NULL:
+      case PRIVATE:
+      case PROTECTED:
+      case PUBLIC:
+      case RETURN:
+      case SHORT:
+      case STATIC:
+      case STRICTFP:
+      case SUPER:
+      case SWITCH:
+      case SYNCHRONIZED:
+      case THIS:
+      case THROW:
+      case TRANSIENT:
+      case TRUE:
+      case TRY:
+      case VOID:
+      case VOLATILE:
+      case WHILE:
+      case INTEGER_LITERAL:
+      case FLOATING_POINT_LITERAL:
+      case CHARACTER_LITERAL:
+      case STRING_LITERAL:
+      case IDENTIFIER:
+      case LPAREN:
+      case LBRACE:
+      case SEMICOLON:
+      case AT:
+      case INCR:
+      case DECR:{
+        ;
+        break;
+        }
+      default:
+        break label_15;
+      }
+      BlockStatement();
+    }
+    jj_consume_token(RBRACE);
+}
+
   final public void ExplicitConstructorInvocation() throws ParseException {/*@bgen(jjtree) ExplicitConstructorInvocation */
   ASTExplicitConstructorInvocation jjtn000 = new ASTExplicitConstructorInvocation(JJTEXPLICITCONSTRUCTORINVOCATION);
   boolean jjtc000 = true;
@@ -1719,7 +1769,7 @@ if (jjtc000) {
         jj_consume_token(IDENTIFIER);
         jj_consume_token(DOT);
       }
-      if (jj_2_9(2)) {
+      if (jj_2_11(2)) {
         jj_consume_token(THIS);
         jj_consume_token(DOT);
       } else {
@@ -1782,7 +1832,22 @@ if (jjtc000) {
       default:
         ;
       }
-      Block();
+      if (skippingBody()) {
+        jj_consume_token(LBRACE);
+jjtree.closeNodeScope(jjtn000, true);
+                                                     jjtc000 = false;
+skipBody(jjtn000);
+      } else {
+        switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
+        case LBRACE:{
+          Block();
+          break;
+          }
+        default:
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
     } catch (Throwable jjte000) {
 if (jjtc000) {
       jjtree.clearNodeScope(jjtn000);
@@ -1813,7 +1878,7 @@ void Type() throws ParseException {/*@bgen(jjtree) Type */
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
     try {
-      if (jj_2_10(2)) {
+      if (jj_2_12(2)) {
         ReferenceType();
       } else {
         switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
@@ -1873,7 +1938,7 @@ if (jjtc000) {
         while (true) {
           jj_consume_token(LBRACKET);
           jj_consume_token(RBRACKET);
-          if (jj_2_11(2)) {
+          if (jj_2_13(2)) {
             ;
           } else {
             break label_17;
@@ -1885,7 +1950,7 @@ if (jjtc000) {
         ClassOrInterfaceType();
         label_18:
         while (true) {
-          if (jj_2_12(2)) {
+          if (jj_2_14(2)) {
             ;
           } else {
             break label_18;
@@ -1927,14 +1992,14 @@ if (jjtc000) {
     try {
       t = jj_consume_token(IDENTIFIER);
 jjtn000.setImage(t.image);
-      if (jj_2_13(2)) {
+      if (jj_2_15(2)) {
         TypeArguments();
       } else {
         ;
       }
       label_19:
       while (true) {
-        if (jj_2_14(2)) {
+        if (jj_2_16(2)) {
           ;
         } else {
           break label_19;
@@ -1942,7 +2007,7 @@ jjtn000.setImage(t.image);
         jj_consume_token(DOT);
         t = jj_consume_token(IDENTIFIER);
 jjtn000.setImage(t.image);
-        if (jj_2_15(2)) {
+        if (jj_2_17(2)) {
           TypeArguments();
         } else {
           ;
@@ -2214,7 +2279,7 @@ jjtn000.setImage(t.image);  // Salva il nome del metodo
 
       label_21:
       while (true) {
-        if (jj_2_16(2)) {
+        if (jj_2_18(2)) {
           ;
         } else {
           break label_21;
@@ -2281,7 +2346,7 @@ void Expression() throws ParseException {/*@bgen(jjtree) Expression */
   jjtree.openNodeScope(jjtn000);
     try {
       ConditionalExpression();
-      if (jj_2_17(2)) {
+      if (jj_2_19(2)) {
         AssignmentOperator();
         Expression();
       } else {
@@ -2771,7 +2836,7 @@ if (jjtc000) {
       AdditiveExpression();
       label_30:
       while (true) {
-        if (jj_2_18(1)) {
+        if (jj_2_20(1)) {
           ;
         } else {
           break label_30;
@@ -2782,9 +2847,9 @@ if (jjtc000) {
           break;
           }
         default:
-          if (jj_2_19(1)) {
+          if (jj_2_21(1)) {
             RSIGNEDSHIFT();
-          } else if (jj_2_20(1)) {
+          } else if (jj_2_22(1)) {
             RUNSIGNEDSHIFT();
           } else {
             jj_consume_token(-1);
@@ -3089,7 +3154,7 @@ if (jjtc000) {
         break;
         }
       default:
-        if (jj_2_21(2147483647)) {
+        if (jj_2_23(2147483647)) {
           CastExpression();
         } else {
           switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
@@ -3152,10 +3217,10 @@ if (jjtc000) {
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
     try {
-      if (jj_2_22(2)) {
+      if (jj_2_24(2)) {
         jj_consume_token(LPAREN);
         PrimitiveType();
-      } else if (jj_2_23(2147483647)) {
+      } else if (jj_2_25(2147483647)) {
         jj_consume_token(LPAREN);
         Type();
         jj_consume_token(LBRACKET);
@@ -3290,7 +3355,7 @@ if (jjtc000) {
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
     try {
-      if (jj_2_24(2147483647)) {
+      if (jj_2_26(2147483647)) {
         jj_consume_token(LPAREN);
         Type();
         jj_consume_token(RPAREN);
@@ -3338,7 +3403,7 @@ if (jjtc000) {
       PrimaryPrefix();
       label_33:
       while (true) {
-        if (jj_2_25(2)) {
+        if (jj_2_27(2)) {
           ;
         } else {
           break label_33;
@@ -3412,7 +3477,7 @@ if (jjtc000) {
         break;
         }
       default:
-        if (jj_2_26(2147483647)) {
+        if (jj_2_28(2147483647)) {
           label_34:
           while (true) {
             switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
@@ -3436,7 +3501,7 @@ if (jjtc000) {
             break;
             }
           default:
-            if (jj_2_27(2147483647)) {
+            if (jj_2_29(2147483647)) {
               ClassOrInterfaceType();
               jj_consume_token(DOT);
               jj_consume_token(SUPER);
@@ -3455,7 +3520,7 @@ if (jjtc000) {
                 break;
                 }
               default:
-                if (jj_2_28(2147483647)) {
+                if (jj_2_30(2147483647)) {
                   ResultType();
                   jj_consume_token(DOT);
                   jj_consume_token(CLASS);
@@ -3501,16 +3566,16 @@ if (jjtc000) {
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
     try {
-      if (jj_2_29(2147483647)) {
+      if (jj_2_31(2147483647)) {
         jj_consume_token(DOT);
         jj_consume_token(SUPER);
-      } else if (jj_2_30(2147483647)) {
+      } else if (jj_2_32(2147483647)) {
         jj_consume_token(DOT);
         jj_consume_token(THIS);
-      } else if (jj_2_31(2)) {
+      } else if (jj_2_33(2)) {
         jj_consume_token(DOT);
         AllocationExpression();
-      } else if (jj_2_32(3)) {
+      } else if (jj_2_34(3)) {
         MemberSelector();
       } else {
         switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
@@ -3756,7 +3821,7 @@ if (jjtc000) {
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
     try {
-      if (jj_2_33(2)) {
+      if (jj_2_35(2)) {
         jj_consume_token(NEW);
         PrimitiveType();
         ArrayDimsAndInits();
@@ -3831,13 +3896,13 @@ if (jjtc000) {
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
     try {
-      if (jj_2_36(2)) {
+      if (jj_2_38(2)) {
         label_36:
         while (true) {
           jj_consume_token(LBRACKET);
           Expression();
           jj_consume_token(RBRACKET);
-          if (jj_2_34(2)) {
+          if (jj_2_36(2)) {
             ;
           } else {
             break label_36;
@@ -3845,7 +3910,7 @@ if (jjtc000) {
         }
         label_37:
         while (true) {
-          if (jj_2_35(2)) {
+          if (jj_2_37(2)) {
             ;
           } else {
             break label_37;
@@ -3907,7 +3972,7 @@ void Statement() throws ParseException {/*@bgen(jjtree) Statement */
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
     try {
-      if (jj_2_37(2)) {
+      if (jj_2_39(2)) {
         LabeledStatement();
       } else {
         switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
@@ -4181,7 +4246,7 @@ if (jjtc000) {
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
     try {
-      if (jj_2_38(2147483647)) {
+      if (jj_2_40(2147483647)) {
         LocalVariableDeclaration();
         jj_consume_token(SEMICOLON);
       } else {
@@ -4683,7 +4748,7 @@ if (jjtc000) {
     try {
       jj_consume_token(FOR);
       jj_consume_token(LPAREN);
-      if (jj_2_39(2147483647)) {
+      if (jj_2_41(2147483647)) {
         Modifiers();
         Type();
         jj_consume_token(IDENTIFIER);
@@ -4870,7 +4935,7 @@ if (jjtc000) {
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
     try {
-      if (jj_2_40(2147483647)) {
+      if (jj_2_42(2147483647)) {
         LocalVariableDeclaration();
       } else {
         switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
@@ -5266,9 +5331,9 @@ void Annotation() throws ParseException {/*@bgen(jjtree) Annotation */
   boolean jjtc000 = true;
   jjtree.openNodeScope(jjtn000);
     try {
-      if (jj_2_41(2147483647)) {
+      if (jj_2_43(2147483647)) {
         NormalAnnotation();
-      } else if (jj_2_42(2147483647)) {
+      } else if (jj_2_44(2147483647)) {
         SingleMemberAnnotation();
       } else {
         switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
@@ -5576,7 +5641,7 @@ if (jjtc000) {
         MemberValue();
         label_46:
         while (true) {
-          if (jj_2_43(2)) {
+          if (jj_2_45(2)) {
             ;
           } else {
             break label_46;
@@ -5746,7 +5811,7 @@ if (jjtc000) {
       case IDENTIFIER:
       case AT:{
         modifiers = Modifiers();
-        if (jj_2_44(2147483647)) {
+        if (jj_2_46(2147483647)) {
           Type();
           jj_consume_token(IDENTIFIER);
           jj_consume_token(LPAREN);
@@ -6159,231 +6224,55 @@ if (jjtc000) {
     catch(LookaheadSuccess ls) { return true; }
   }
 
-  private boolean jj_3R_InstanceOfExpression_1529_3_198()
+  private boolean jj_2_45(int xla)
  {
-    if (jj_3R_RelationalExpression_1535_3_203()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_InstanceOfExpression_1529_28_220()) jj_scanpos = xsp;
-    return false;
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_45()); }
+    catch(LookaheadSuccess ls) { return true; }
   }
 
-  private boolean jj_3R_ExclusiveOrExpression_1511_21_205()
+  private boolean jj_2_46(int xla)
  {
-    if (jj_scan_token(XOR)) return true;
-    if (jj_3R_AndExpression_1517_3_174()) return true;
-    return false;
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return (!jj_3_46()); }
+    catch(LookaheadSuccess ls) { return true; }
   }
 
-  private boolean jj_3R_ConditionalAndExpression_1499_29_197()
+  private boolean jj_3R_Name_1529_3_85()
  {
-    if (jj_scan_token(SC_AND)) return true;
-    if (jj_3R_InclusiveOrExpression_1505_3_142()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_EqualityExpression_1523_3_193()
- {
-    if (jj_3R_InstanceOfExpression_1529_3_198()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_EqualityExpression_1523_28_218()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_ConditionalOrExpression_1493_32_192()
- {
-    if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_ConditionalAndExpression_1499_3_134()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AndExpression_1517_3_174()
- {
-    if (jj_3R_EqualityExpression_1523_3_193()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_AndExpression_1517_26_215()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_ConditionalExpression_1487_31_173()
- {
-    if (jj_scan_token(HOOK)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_ExclusiveOrExpression_1511_3_151()
- {
-    if (jj_3R_AndExpression_1517_3_174()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_ExclusiveOrExpression_1511_21_205()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_InclusiveOrExpression_1505_3_142()
- {
-    if (jj_3R_ExclusiveOrExpression_1511_3_151()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_InclusiveOrExpression_1505_29_202()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_ConditionalAndExpression_1499_3_134()
- {
-    if (jj_3R_InclusiveOrExpression_1505_3_142()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_ConditionalAndExpression_1499_29_197()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_ConditionalOrExpression_1493_3_124()
- {
-    if (jj_3R_ConditionalAndExpression_1499_3_134()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_ConditionalOrExpression_1493_32_192()) { jj_scanpos = xsp; break; }
+      if (jj_3_18()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_ConditionalExpression_1487_3_99()
+  private boolean jj_3R_ResultType_1517_3_112()
  {
-    if (jj_3R_ConditionalOrExpression_1493_3_124()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_ConditionalExpression_1487_31_173()) jj_scanpos = xsp;
+    if (jj_3R_Type_1443_4_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_AssignmentOperator_1481_3_70()
+  private boolean jj_3R_ResultType_1515_3_80()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(89)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(114)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(115)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(119)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(112)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(113)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(120)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(121)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(122)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(116)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(118)) {
+    if (jj_scan_token(62)) {
     jj_scanpos = xsp;
-    if (jj_scan_token(117)) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3_17()
- {
-    if (jj_3R_AssignmentOperator_1481_3_70()) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_Expression_1471_3_71()
- {
-    if (jj_3R_ConditionalExpression_1487_3_99()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_17()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_NameList_1451_12_293()
- {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Name_1439_3_84()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_NameList_1451_3_283()
- {
-    if (jj_3R_Name_1439_3_84()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_NameList_1451_12_293()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3_16()
- {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_Name_1439_3_84()
- {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_16()) { jj_scanpos = xsp; break; }
+    if (jj_3R_ResultType_1517_3_112()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_ResultType_1427_3_109()
+  private boolean jj_3R_Initializer_1432_77_93()
  {
-    if (jj_3R_Type_1353_4_63()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_ResultType_1425_3_79()
- {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(62)) {
-    jj_scanpos = xsp;
-    if (jj_3R_ResultType_1427_3_109()) return true;
-    }
+    if (jj_3R_Block_1898_3_128()) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimitiveType_1405_3_75()
+  private boolean jj_3R_PrimitiveType_1495_3_76()
  {
     Token xsp;
     xsp = jj_scanpos;
@@ -6412,410 +6301,431 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_TypeArguments_1382_25_132()
+  private boolean jj_3R_TypeArguments_1472_25_147()
  {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_TypeArgument_1388_4_98()) return true;
+    if (jj_3R_TypeArgument_1478_4_101()) return true;
     return false;
   }
 
-  private boolean jj_3_15()
+  private boolean jj_3_17()
  {
-    if (jj_3R_TypeArguments_1382_4_69()) return true;
+    if (jj_3R_TypeArguments_1472_4_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_WildcardBounds_1398_4_191()
+  private boolean jj_3R_WildcardBounds_1488_4_194()
  {
     if (jj_scan_token(SUPER)) return true;
-    if (jj_3R_ReferenceType_1361_4_68()) return true;
+    if (jj_3R_ReferenceType_1451_4_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_TypeArgument_1390_10_150()
+  private boolean jj_3R_TypeArgument_1480_10_166()
  {
-    if (jj_3R_WildcardBounds_1396_4_172()) return true;
+    if (jj_3R_WildcardBounds_1486_4_174()) return true;
     return false;
   }
 
-  private boolean jj_3R_WildcardBounds_1396_4_172()
+  private boolean jj_3R_WildcardBounds_1486_4_174()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_WildcardBounds_1396_4_190()) {
+    if (jj_3R_WildcardBounds_1486_4_193()) {
     jj_scanpos = xsp;
-    if (jj_3R_WildcardBounds_1398_4_191()) return true;
+    if (jj_3R_WildcardBounds_1488_4_194()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_WildcardBounds_1396_4_190()
+  private boolean jj_3R_WildcardBounds_1486_4_193()
  {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_ReferenceType_1361_4_68()) return true;
+    if (jj_3R_ReferenceType_1451_4_69()) return true;
     return false;
   }
 
-  private boolean jj_3_12()
+  private boolean jj_3_14()
  {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_TypeArgument_1390_4_123()
+  private boolean jj_3R_TypeArgument_1480_4_132()
  {
     if (jj_scan_token(HOOK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TypeArgument_1390_10_150()) jj_scanpos = xsp;
+    if (jj_3R_TypeArgument_1480_10_166()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_TypeArgument_1388_4_122()
+  private boolean jj_3R_TypeArgument_1478_4_131()
  {
-    if (jj_3R_ReferenceType_1361_4_68()) return true;
+    if (jj_3R_ReferenceType_1451_4_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_TypeArgument_1388_4_98()
+  private boolean jj_3R_TypeArgument_1478_4_101()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TypeArgument_1388_4_122()) {
+    if (jj_3R_TypeArgument_1478_4_131()) {
     jj_scanpos = xsp;
-    if (jj_3R_TypeArgument_1390_4_123()) return true;
+    if (jj_3R_TypeArgument_1480_4_132()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_TypeArguments_1382_4_69()
+  private boolean jj_3R_TypeArguments_1472_4_70()
  {
     if (jj_scan_token(LT)) return true;
-    if (jj_3R_TypeArgument_1388_4_98()) return true;
+    if (jj_3R_TypeArgument_1478_4_101()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_TypeArguments_1382_25_132()) { jj_scanpos = xsp; break; }
+      if (jj_3R_TypeArguments_1472_25_147()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3_11()
+  private boolean jj_3_13()
  {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_13()
+  private boolean jj_3R_ConstructorDeclaration_1408_64_272()
  {
-    if (jj_3R_TypeArguments_1382_4_69()) return true;
+    if (jj_3R_ConstructorBody_1414_3_286()) return true;
     return false;
   }
 
-  private boolean jj_3_14()
+  private boolean jj_3_15()
+ {
+    if (jj_3R_TypeArguments_1472_4_70()) return true;
+    return false;
+  }
+
+  private boolean jj_3_16()
  {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_15()) jj_scanpos = xsp;
+    if (jj_3_17()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceType_1371_3_78()
+  private boolean jj_3R_ClassOrInterfaceType_1461_3_79()
  {
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_13()) jj_scanpos = xsp;
+    if (jj_3_15()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_14()) { jj_scanpos = xsp; break; }
+      if (jj_3_16()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_ReferenceType_1363_4_97()
+  private boolean jj_3R_ReferenceType_1453_4_100()
  {
-    if (jj_3R_ClassOrInterfaceType_1371_3_78()) return true;
+    if (jj_3R_ClassOrInterfaceType_1461_3_79()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_12()) { jj_scanpos = xsp; break; }
+      if (jj_3_14()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_ReferenceType_1361_4_96()
+  private boolean jj_3R_ReferenceType_1451_4_99()
  {
-    if (jj_3R_PrimitiveType_1405_3_75()) return true;
+    if (jj_3R_PrimitiveType_1495_3_76()) return true;
     Token xsp;
-    if (jj_3_11()) return true;
+    if (jj_3_13()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_11()) { jj_scanpos = xsp; break; }
+      if (jj_3_13()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_ReferenceType_1361_4_68()
+  private boolean jj_3R_ReferenceType_1451_4_69()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ReferenceType_1361_4_96()) {
+    if (jj_3R_ReferenceType_1451_4_99()) {
     jj_scanpos = xsp;
-    if (jj_3R_ReferenceType_1363_4_97()) return true;
+    if (jj_3R_ReferenceType_1453_4_100()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_9()
+  private boolean jj_3_11()
  {
     if (jj_scan_token(THIS)) return true;
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_ConstructorDeclaration_1323_37_268()
+  private boolean jj_3R_Initializer_1432_18_92()
  {
-    if (jj_scan_token(THROWS)) return true;
-    if (jj_3R_NameList_1451_3_283()) return true;
+    if (jj_scan_token(LBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Type_1355_4_89()
+  private boolean jj_3R_Type_1445_4_91()
  {
-    if (jj_3R_PrimitiveType_1405_3_75()) return true;
+    if (jj_3R_PrimitiveType_1495_3_76()) return true;
     return false;
   }
 
-  private boolean jj_3_10()
+  private boolean jj_3_12()
  {
-    if (jj_3R_ReferenceType_1361_4_68()) return true;
+    if (jj_3R_ReferenceType_1451_4_69()) return true;
     return false;
   }
 
-  private boolean jj_3R_Type_1353_4_63()
+  private boolean jj_3R_Type_1443_4_64()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_10()) {
+    if (jj_3_12()) {
     jj_scanpos = xsp;
-    if (jj_3R_Type_1355_4_89()) return true;
+    if (jj_3R_Type_1445_4_91()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeMemberDeclaration_2078_34_307()
+  private boolean jj_3R_ConstructorDeclaration_1407_37_270()
  {
-    if (jj_3R_DefaultValue_2095_3_316()) return true;
+    if (jj_scan_token(THROWS)) return true;
+    if (jj_3R_NameList_1541_3_285()) return true;
     return false;
   }
 
-  private boolean jj_3R_Initializer_1342_3_65()
+  private boolean jj_3R_AnnotationTypeMemberDeclaration_2168_34_311()
  {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(51)) jj_scanpos = xsp;
-    if (jj_3R_Block_1808_3_90()) return true;
+    if (jj_3R_DefaultValue_2185_3_312()) return true;
     return false;
   }
 
-  private boolean jj_3R_FormalParameter_1315_27_301()
+  private boolean jj_3R_MethodDeclaration_1371_64_278()
  {
-    if (jj_3R_Annotation_2000_4_87()) return true;
+    if (jj_3R_Block_1898_3_128()) return true;
     return false;
   }
 
-  private boolean jj_3_8()
+  private boolean jj_3R_Initializer_1432_3_66()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(51)) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    jj_lookingAhead = true;
+    jj_semLA = skippingBody();
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_Initializer_1432_18_92()) {
+    jj_scanpos = xsp;
+    if (jj_3R_Initializer_1432_77_93()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_10()
  {
-    if (jj_3R_ExplicitConstructorInvocation_1335_3_67()) return true;
+    if (jj_3R_ExplicitConstructorInvocation_1425_3_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_ExplicitConstructorInvocation_1336_5_94()
+  private boolean jj_3R_ExplicitConstructorInvocation_1426_5_97()
  {
-    if (jj_3R_TypeArguments_1382_4_69()) return true;
+    if (jj_3R_TypeArguments_1472_4_70()) return true;
     return false;
   }
 
-  private boolean jj_3R_ExplicitConstructorInvocation_1335_5_93()
+  private boolean jj_3R_ExplicitConstructorInvocation_1425_5_96()
  {
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_ExplicitConstructorInvocation_1335_3_67()
+  private boolean jj_3R_ExplicitConstructorInvocation_1425_3_68()
  {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_ExplicitConstructorInvocation_1335_5_93()) { jj_scanpos = xsp; break; }
+      if (jj_3R_ExplicitConstructorInvocation_1425_5_96()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3_9()) jj_scanpos = xsp;
+    if (jj_3_11()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ExplicitConstructorInvocation_1336_5_94()) jj_scanpos = xsp;
+    if (jj_3R_ExplicitConstructorInvocation_1426_5_97()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(56)) {
     jj_scanpos = xsp;
     if (jj_scan_token(53)) return true;
     }
-    if (jj_3R_Arguments_1715_3_95()) return true;
+    if (jj_3R_Arguments_1805_3_98()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_FormalParameters_1306_29_292()
+  private boolean jj_3R_FormalParameter_1399_27_304()
  {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_FormalParameter_1312_3_291()) return true;
+    if (jj_3R_Annotation_2090_4_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConstructorDeclaration_1328_7_270()
+  private boolean jj_3R_ConstructorBody_1418_7_297()
  {
-    if (jj_3R_BlockStatement_1814_3_131()) return true;
+    if (jj_3R_BlockStatement_1904_3_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_FormalParameter_1315_17_298()
+  private boolean jj_3R_ConstructorBody_1415_7_296()
  {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(30)) {
-    jj_scanpos = xsp;
-    if (jj_3R_FormalParameter_1315_27_301()) return true;
-    }
+    if (jj_3R_ExplicitConstructorInvocation_1425_3_68()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConstructorDeclaration_1325_7_269()
- {
-    if (jj_3R_ExplicitConstructorInvocation_1335_3_67()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DefaultValue_2095_3_316()
+  private boolean jj_3R_DefaultValue_2185_3_312()
  {
     if (jj_scan_token(_DEFAULT)) return true;
-    if (jj_3R_MemberValue_2042_4_86()) return true;
+    if (jj_3R_MemberValue_2132_4_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConstructorDeclaration_1321_5_266()
+  private boolean jj_3R_FormalParameters_1390_29_294()
  {
-    if (jj_3R_TypeParameters_1188_4_88()) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_FormalParameter_1396_3_293()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConstructorDeclaration_1321_3_257()
+  private boolean jj_3R_ConstructorBody_1414_3_286()
  {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_ConstructorDeclaration_1321_5_266()) jj_scanpos = xsp;
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_3R_FormalParameters_1306_3_267()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_ConstructorDeclaration_1323_37_268()) jj_scanpos = xsp;
     if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ConstructorDeclaration_1325_7_269()) jj_scanpos = xsp;
+    if (jj_3R_ConstructorBody_1415_7_296()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_ConstructorDeclaration_1328_7_270()) { jj_scanpos = xsp; break; }
+      if (jj_3R_ConstructorBody_1418_7_297()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_44()
+  private boolean jj_3R_FormalParameter_1399_17_302()
  {
-    if (jj_3R_Type_1353_4_63()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(30)) {
+    jj_scanpos = xsp;
+    if (jj_3R_FormalParameter_1399_27_304()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_46()
+ {
+    if (jj_3R_Type_1443_4_64()) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeMemberDeclaration_2086_4_306()
+  private boolean jj_3R_AnnotationTypeMemberDeclaration_2176_4_309()
+ {
+    if (jj_3R_FieldDeclaration_1330_3_142()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_ConstructorDeclaration_1408_5_271()
  {
-    if (jj_3R_FieldDeclaration_1246_3_258()) return true;
+    if (jj_scan_token(LBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeMemberDeclaration_2084_4_305()
+  private boolean jj_3R_AnnotationTypeMemberDeclaration_2174_4_308()
  {
-    if (jj_3R_AnnotationTypeDeclaration_2061_3_260()) return true;
+    if (jj_3R_AnnotationTypeDeclaration_2151_3_144()) return true;
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeMemberDeclaration_2082_4_304()
+  private boolean jj_3R_ConstructorDeclaration_1405_5_153()
  {
-    if (jj_3R_EnumDeclaration_1164_3_256()) return true;
+    if (jj_3R_TypeParameters_1272_4_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeMemberDeclaration_2080_4_303()
+  private boolean jj_3R_AnnotationTypeMemberDeclaration_2172_4_307()
  {
-    if (jj_3R_ClassOrInterfaceDeclaration_1126_3_149()) return true;
+    if (jj_3R_EnumDeclaration_1248_3_140()) return true;
     return false;
   }
 
-  private boolean jj_3R_FormalParameter_1312_3_291()
+  private boolean jj_3R_ConstructorDeclaration_1405_3_141()
  {
-    if (jj_3R_Modifiers_1065_2_83()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FormalParameter_1315_17_298()) jj_scanpos = xsp;
-    if (jj_3R_Type_1353_4_63()) return true;
+    if (jj_3R_ConstructorDeclaration_1405_5_153()) jj_scanpos = xsp;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_3R_FormalParameters_1390_3_269()) return true;
     xsp = jj_scanpos;
-    if (jj_scan_token(123)) jj_scanpos = xsp;
-    if (jj_3R_VariableDeclaratorId_1261_3_284()) return true;
+    if (jj_3R_ConstructorDeclaration_1407_37_270()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    jj_lookingAhead = true;
+    jj_semLA = skippingBody();
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_ConstructorDeclaration_1408_5_271()) {
+    jj_scanpos = xsp;
+    if (jj_3R_ConstructorDeclaration_1408_64_272()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_FormalParameters_1306_9_282()
+  private boolean jj_3R_AnnotationTypeMemberDeclaration_2170_4_306()
  {
-    if (jj_3R_FormalParameter_1312_3_291()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_FormalParameters_1306_29_292()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_3R_ClassOrInterfaceDeclaration_1210_3_139()) return true;
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeMemberDeclaration_2077_4_302()
+  private boolean jj_3R_AnnotationTypeMemberDeclaration_2167_4_305()
  {
-    if (jj_3R_Type_1353_4_63()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AnnotationTypeMemberDeclaration_2078_34_307()) jj_scanpos = xsp;
+    if (jj_3R_AnnotationTypeMemberDeclaration_2168_34_311()) jj_scanpos = xsp;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeMemberDeclaration_2075_2_299()
+  private boolean jj_3R_AnnotationTypeMemberDeclaration_2165_2_303()
  {
-    if (jj_3R_Modifiers_1065_2_83()) return true;
+    if (jj_3R_Modifiers_1149_2_84()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AnnotationTypeMemberDeclaration_2077_4_302()) {
+    if (jj_3R_AnnotationTypeMemberDeclaration_2167_4_305()) {
     jj_scanpos = xsp;
-    if (jj_3R_AnnotationTypeMemberDeclaration_2080_4_303()) {
+    if (jj_3R_AnnotationTypeMemberDeclaration_2170_4_306()) {
     jj_scanpos = xsp;
-    if (jj_3R_AnnotationTypeMemberDeclaration_2082_4_304()) {
+    if (jj_3R_AnnotationTypeMemberDeclaration_2172_4_307()) {
     jj_scanpos = xsp;
-    if (jj_3R_AnnotationTypeMemberDeclaration_2084_4_305()) {
+    if (jj_3R_AnnotationTypeMemberDeclaration_2174_4_308()) {
     jj_scanpos = xsp;
-    if (jj_3R_AnnotationTypeMemberDeclaration_2086_4_306()) return true;
+    if (jj_3R_AnnotationTypeMemberDeclaration_2176_4_309()) return true;
     }
     }
     }
@@ -6823,342 +6733,398 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeMemberDeclaration_2075_2_295()
+  private boolean jj_3R_AnnotationTypeMemberDeclaration_2165_2_299()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AnnotationTypeMemberDeclaration_2075_2_299()) {
+    if (jj_3R_AnnotationTypeMemberDeclaration_2165_2_303()) {
     jj_scanpos = xsp;
     if (jj_scan_token(85)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_MethodDeclaration_1286_24_275()
+  private boolean jj_3R_FormalParameter_1396_3_293()
  {
-    if (jj_scan_token(THROWS)) return true;
-    if (jj_3R_NameList_1451_3_283()) return true;
+    if (jj_3R_Modifiers_1149_2_84()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_FormalParameter_1399_17_302()) jj_scanpos = xsp;
+    if (jj_3R_Type_1443_4_64()) return true;
+    xsp = jj_scanpos;
+    if (jj_scan_token(123)) jj_scanpos = xsp;
+    if (jj_3R_VariableDeclaratorId_1345_3_287()) return true;
     return false;
   }
 
-  private boolean jj_3_7()
+  private boolean jj_3R_AnnotationTypeBody_2157_9_290()
  {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_VariableInitializer_1269_3_66()) return true;
+    if (jj_3R_AnnotationTypeMemberDeclaration_2165_2_299()) return true;
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeBody_2067_9_287()
+  private boolean jj_3R_FormalParameters_1390_9_284()
  {
-    if (jj_3R_AnnotationTypeMemberDeclaration_2075_2_295()) return true;
+    if (jj_3R_FormalParameter_1396_3_293()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_FormalParameters_1390_29_294()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_FormalParameters_1306_3_267()
+  private boolean jj_3_45()
  {
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_FormalParameters_1306_9_282()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_MemberValue_2132_4_87()) return true;
     return false;
   }
 
-  private boolean jj_3_43()
+  private boolean jj_3R_MethodDeclaration_1370_24_276()
  {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_MemberValue_2042_4_86()) return true;
+    if (jj_scan_token(THROWS)) return true;
+    if (jj_3R_NameList_1541_3_285()) return true;
     return false;
   }
 
-  private boolean jj_3R_MethodDeclarator_1299_5_286()
+  private boolean jj_3_9()
  {
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_scan_token(RBRACKET)) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_VariableInitializer_1353_3_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeBody_2067_3_277()
+  private boolean jj_3R_AnnotationTypeBody_2157_3_279()
  {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_AnnotationTypeBody_2067_9_287()) { jj_scanpos = xsp; break; }
+      if (jj_3R_AnnotationTypeBody_2157_9_290()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_MethodDeclarator_1295_3_274()
+  private boolean jj_3R_FormalParameters_1390_3_269()
  {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_3R_FormalParameters_1306_3_267()) return true;
+    if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MethodDeclarator_1299_5_286()) jj_scanpos = xsp;
+    if (jj_3R_FormalParameters_1390_9_284()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_AnnotationTypeDeclaration_2061_3_260()
+  private boolean jj_3R_MethodDeclarator_1383_5_289()
+ {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AnnotationTypeDeclaration_2151_3_144()
  {
     if (jj_scan_token(AT)) return true;
     if (jj_scan_token(INTERFACE)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_3R_AnnotationTypeBody_2067_3_277()) return true;
+    if (jj_3R_AnnotationTypeBody_2157_3_279()) return true;
     return false;
   }
 
-  private boolean jj_3R_MemberValueArrayInitializer_2052_8_175()
+  private boolean jj_3R_MemberValueArrayInitializer_2142_8_177()
  {
-    if (jj_3R_MemberValue_2042_4_86()) return true;
+    if (jj_3R_MemberValue_2132_4_87()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_43()) { jj_scanpos = xsp; break; }
+      if (jj_3_45()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
     if (jj_scan_token(86)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_MethodDeclaration_1287_5_276()
+  private boolean jj_3R_MethodDeclarator_1379_3_275()
+ {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_3R_FormalParameters_1390_3_269()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MethodDeclarator_1383_5_289()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_MemberValueArrayInitializer_2142_3_135()
  {
-    if (jj_3R_Block_1808_3_90()) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MemberValueArrayInitializer_2142_8_177()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_MethodDeclaration_1284_5_273()
+  private boolean jj_3R_MemberValuePairs_2120_24_171()
  {
-    if (jj_3R_TypeParameters_1188_4_88()) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_MemberValuePair_2126_5_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_VariableDeclaratorId_1263_25_294()
+  private boolean jj_3R_MethodDeclaration_1371_5_277()
+ {
+    if (jj_scan_token(LBRACE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_MethodDeclaration_1368_5_154()
+ {
+    if (jj_3R_TypeParameters_1272_4_90()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_MemberValue_2136_4_116()
+ {
+    if (jj_3R_ConditionalExpression_1577_3_102()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_VariableDeclaratorId_1347_25_298()
  {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_MemberValueArrayInitializer_2052_3_126()
+  private boolean jj_3R_MemberValue_2134_4_115()
  {
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_MemberValueArrayInitializer_2052_8_175()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3R_MemberValueArrayInitializer_2142_3_135()) return true;
     return false;
   }
 
-  private boolean jj_3R_MemberValuePairs_2030_24_155()
+  private boolean jj_3R_ArrayInitializer_1361_9_263()
  {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_MemberValuePair_2036_5_154()) return true;
+    if (jj_3R_VariableInitializer_1353_3_67()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_9()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_MethodDeclaration_1283_3_259()
+  private boolean jj_3R_MethodDeclaration_1367_3_143()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MethodDeclaration_1284_5_273()) jj_scanpos = xsp;
-    if (jj_3R_ResultType_1425_3_79()) return true;
-    if (jj_3R_MethodDeclarator_1295_3_274()) return true;
+    if (jj_3R_MethodDeclaration_1368_5_154()) jj_scanpos = xsp;
+    if (jj_3R_ResultType_1515_3_80()) return true;
+    if (jj_3R_MethodDeclarator_1379_3_275()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_MethodDeclaration_1286_24_275()) jj_scanpos = xsp;
+    if (jj_3R_MethodDeclaration_1370_24_276()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MethodDeclaration_1287_5_276()) {
+    jj_lookingAhead = true;
+    jj_semLA = skippingBody();
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_MethodDeclaration_1371_5_277()) {
+    jj_scanpos = xsp;
+    if (jj_3R_MethodDeclaration_1371_64_278()) {
     jj_scanpos = xsp;
     if (jj_scan_token(85)) return true;
     }
-    return false;
-  }
-
-  private boolean jj_3R_ArrayInitializer_1277_9_246()
- {
-    if (jj_3R_VariableInitializer_1269_3_66()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_7()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_MemberValue_2046_4_113()
+  private boolean jj_3R_MemberValue_2132_4_114()
  {
-    if (jj_3R_ConditionalExpression_1487_3_99()) return true;
+    if (jj_3R_Annotation_2090_4_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_VariableDeclarator_1253_28_285()
+  private boolean jj_3R_MemberValue_2132_4_87()
  {
-    if (jj_scan_token(ASSIGN)) return true;
-    if (jj_3R_VariableInitializer_1269_3_66()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MemberValue_2132_4_114()) {
+    jj_scanpos = xsp;
+    if (jj_3R_MemberValue_2134_4_115()) {
+    jj_scanpos = xsp;
+    if (jj_3R_MemberValue_2136_4_116()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_MemberValue_2044_4_112()
+  private boolean jj_3R_VariableDeclarator_1337_28_288()
  {
-    if (jj_3R_MemberValueArrayInitializer_2052_3_126()) return true;
+    if (jj_scan_token(ASSIGN)) return true;
+    if (jj_3R_VariableInitializer_1353_3_67()) return true;
     return false;
   }
 
-  private boolean jj_3R_FieldDeclaration_1247_33_272()
+  private boolean jj_3R_FieldDeclaration_1331_33_274()
  {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_VariableDeclarator_1253_3_271()) return true;
+    if (jj_3R_VariableDeclarator_1337_3_273()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayInitializer_1277_3_120()
+  private boolean jj_3R_ArrayInitializer_1361_3_129()
  {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ArrayInitializer_1277_9_246()) jj_scanpos = xsp;
+    if (jj_3R_ArrayInitializer_1361_9_263()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(86)) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_MemberValue_2042_4_111()
- {
-    if (jj_3R_Annotation_2000_4_87()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_MemberValue_2042_4_86()
+  private boolean jj_3R_MemberValuePair_2126_5_170()
  {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_MemberValue_2042_4_111()) {
-    jj_scanpos = xsp;
-    if (jj_3R_MemberValue_2044_4_112()) {
-    jj_scanpos = xsp;
-    if (jj_3R_MemberValue_2046_4_113()) return true;
-    }
-    }
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(ASSIGN)) return true;
+    if (jj_3R_MemberValue_2132_4_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_VariableInitializer_1271_3_92()
+  private boolean jj_3R_VariableInitializer_1355_3_95()
  {
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_MemberValuePair_2036_5_154()
+  private boolean jj_3R_MemberValuePairs_2120_4_161()
  {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_scan_token(ASSIGN)) return true;
-    if (jj_3R_MemberValue_2042_4_86()) return true;
+    if (jj_3R_MemberValuePair_2126_5_170()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_MemberValuePairs_2120_24_171()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_VariableInitializer_1269_3_91()
+  private boolean jj_3R_VariableInitializer_1353_3_94()
  {
-    if (jj_3R_ArrayInitializer_1277_3_120()) return true;
+    if (jj_3R_ArrayInitializer_1361_3_129()) return true;
     return false;
   }
 
-  private boolean jj_3R_null_1232_40_64()
+  private boolean jj_3R_null_1316_40_65()
  {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_VariableInitializer_1269_3_66()
+  private boolean jj_3R_VariableInitializer_1353_3_67()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_VariableInitializer_1269_3_91()) {
+    if (jj_3R_VariableInitializer_1353_3_94()) {
     jj_scanpos = xsp;
-    if (jj_3R_VariableInitializer_1271_3_92()) return true;
+    if (jj_3R_VariableInitializer_1355_3_95()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_MemberValuePairs_2030_4_145()
+  private boolean jj_3R_NormalAnnotation_2102_21_151()
  {
-    if (jj_3R_MemberValuePair_2036_5_154()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_MemberValuePairs_2030_24_155()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_3R_MemberValuePairs_2120_4_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_NormalAnnotation_2012_21_136()
+  private boolean jj_3R_null_2090_32_86()
  {
-    if (jj_3R_MemberValuePairs_2030_4_145()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(ASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_null_2000_32_85()
+  private boolean jj_3R_SingleMemberAnnotation_2114_3_137()
  {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_scan_token(ASSIGN)) return true;
+    if (jj_scan_token(AT)) return true;
+    if (jj_3R_Name_1529_3_85()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_MemberValue_2132_4_87()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_VariableDeclaratorId_1261_3_284()
+  private boolean jj_3R_VariableDeclaratorId_1345_3_287()
  {
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_VariableDeclaratorId_1263_25_294()) { jj_scanpos = xsp; break; }
+      if (jj_3R_VariableDeclaratorId_1347_25_298()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_SingleMemberAnnotation_2024_3_128()
+  private boolean jj_3R_MarkerAnnotation_2108_3_138()
  {
     if (jj_scan_token(AT)) return true;
-    if (jj_3R_Name_1439_3_84()) return true;
+    if (jj_3R_Name_1529_3_85()) return true;
+    return false;
+  }
+
+  private boolean jj_3_44()
+ {
+    if (jj_scan_token(AT)) return true;
+    if (jj_3R_Name_1529_3_85()) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_MemberValue_2042_4_86()) return true;
-    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_VariableDeclarator_1253_3_271()
+  private boolean jj_3R_VariableDeclarator_1337_3_273()
  {
-    if (jj_3R_VariableDeclaratorId_1261_3_284()) return true;
+    if (jj_3R_VariableDeclaratorId_1345_3_287()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_VariableDeclarator_1253_28_285()) jj_scanpos = xsp;
+    if (jj_3R_VariableDeclarator_1337_28_288()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_MarkerAnnotation_2018_3_129()
+  private boolean jj_3R_NormalAnnotation_2102_4_136()
  {
     if (jj_scan_token(AT)) return true;
-    if (jj_3R_Name_1439_3_84()) return true;
+    if (jj_3R_Name_1529_3_85()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_NormalAnnotation_2102_21_151()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_42()
+  private boolean jj_3_43()
  {
     if (jj_scan_token(AT)) return true;
-    if (jj_3R_Name_1439_3_84()) return true;
+    if (jj_3R_Name_1529_3_85()) return true;
     if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_null_2090_32_86()) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(80)) return true;
+    }
     return false;
   }
 
-  private boolean jj_3_5()
+  private boolean jj_3_7()
  {
-    if (jj_3R_Type_1353_4_63()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_null_1232_40_64()) { jj_scanpos = xsp; break; }
+      if (jj_3R_null_1316_40_65()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
     if (jj_scan_token(86)) {
@@ -7171,168 +7137,154 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_FieldDeclaration_1246_3_258()
- {
-    if (jj_3R_Type_1353_4_63()) return true;
-    if (jj_3R_VariableDeclarator_1253_3_271()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_FieldDeclaration_1247_33_272()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(SEMICOLON)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_null_1229_20_62()
+  private boolean jj_3R_null_1313_20_63()
  {
-    if (jj_3R_TypeParameters_1188_4_88()) return true;
+    if (jj_3R_TypeParameters_1272_4_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_NormalAnnotation_2012_4_127()
+  private boolean jj_3R_FieldDeclaration_1330_3_142()
  {
-    if (jj_scan_token(AT)) return true;
-    if (jj_3R_Name_1439_3_84()) return true;
-    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
+    if (jj_3R_VariableDeclarator_1337_3_273()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_NormalAnnotation_2012_21_136()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_FieldDeclaration_1331_33_274()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3_41()
+  private boolean jj_3R_Annotation_2096_4_119()
  {
-    if (jj_scan_token(AT)) return true;
-    if (jj_3R_Name_1439_3_84()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_null_2000_32_85()) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(80)) return true;
-    }
+    if (jj_3R_MarkerAnnotation_2108_3_138()) return true;
     return false;
   }
 
-  private boolean jj_3_4()
+  private boolean jj_3_6()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_null_1229_20_62()) jj_scanpos = xsp;
+    if (jj_3R_null_1313_20_63()) jj_scanpos = xsp;
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1237_7_255()
+  private boolean jj_3R_Annotation_2093_4_118()
  {
-    if (jj_3R_AnnotationTypeDeclaration_2061_3_260()) return true;
+    if (jj_3R_SingleMemberAnnotation_2114_3_137()) return true;
     return false;
   }
 
-  private boolean jj_3R_Annotation_2006_4_116()
+  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1321_7_125()
  {
-    if (jj_3R_MarkerAnnotation_2018_3_129()) return true;
+    if (jj_3R_AnnotationTypeDeclaration_2151_3_144()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1235_7_254()
+  private boolean jj_3R_Annotation_2090_4_117()
  {
-    if (jj_3R_MethodDeclaration_1283_3_259()) return true;
+    if (jj_3R_NormalAnnotation_2102_4_136()) return true;
     return false;
   }
 
-  private boolean jj_3R_Annotation_2003_4_115()
+  private boolean jj_3R_RSIGNEDSHIFT_2079_15_103()
  {
-    if (jj_3R_SingleMemberAnnotation_2024_3_128()) return true;
     return false;
   }
 
-  private boolean jj_3R_TypeBound_1200_39_146()
+  private boolean jj_3R_Annotation_2090_4_88()
  {
-    if (jj_scan_token(BIT_AND)) return true;
-    if (jj_3R_ClassOrInterfaceType_1371_3_78()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_Annotation_2090_4_117()) {
+    jj_scanpos = xsp;
+    if (jj_3R_Annotation_2093_4_118()) {
+    jj_scanpos = xsp;
+    if (jj_3R_Annotation_2096_4_119()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1232_7_253()
+  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1319_7_124()
  {
-    if (jj_3R_FieldDeclaration_1246_3_258()) return true;
+    if (jj_3R_MethodDeclaration_1367_3_143()) return true;
     return false;
   }
 
-  private boolean jj_3R_Annotation_2000_4_114()
+  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1316_7_123()
  {
-    if (jj_3R_NormalAnnotation_2012_4_127()) return true;
+    if (jj_3R_FieldDeclaration_1330_3_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_RSIGNEDSHIFT_1989_15_100()
+  private boolean jj_3R_TypeBound_1284_39_162()
  {
+    if (jj_scan_token(BIT_AND)) return true;
+    if (jj_3R_ClassOrInterfaceType_1461_3_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_Annotation_2000_4_87()
+  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1313_7_122()
  {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_Annotation_2000_4_114()) {
-    jj_scanpos = xsp;
-    if (jj_3R_Annotation_2003_4_115()) {
-    jj_scanpos = xsp;
-    if (jj_3R_Annotation_2006_4_116()) return true;
-    }
-    }
+    if (jj_3R_ConstructorDeclaration_1405_3_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1229_7_252()
+  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1311_7_121()
  {
-    if (jj_3R_ConstructorDeclaration_1321_3_257()) return true;
+    if (jj_3R_EnumDeclaration_1248_3_140()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1227_7_251()
+  private boolean jj_3R_RUNSIGNEDSHIFT_2070_15_104()
  {
-    if (jj_3R_EnumDeclaration_1164_3_256()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1225_7_250()
+  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1309_7_120()
  {
-    if (jj_3R_ClassOrInterfaceDeclaration_1126_3_149()) return true;
+    if (jj_3R_ClassOrInterfaceDeclaration_1210_3_139()) return true;
     return false;
   }
 
-  private boolean jj_3R_EnumConstant_1182_46_297()
+  private boolean jj_3R_RSIGNEDSHIFT_2079_3_73()
  {
-    if (jj_3R_ClassOrInterfaceBody_1206_3_245()) return true;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == GT &&
+                ((MyToken)getToken(1)).realKind == RSIGNEDSHIFT;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_RSIGNEDSHIFT_2079_15_103()) return true;
+    if (jj_scan_token(GT)) return true;
+    if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_RUNSIGNEDSHIFT_1980_15_101()
+  private boolean jj_3R_EnumConstant_1266_46_301()
  {
+    if (jj_3R_ClassOrInterfaceBody_1290_3_262()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1222_3_249()
+  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1306_3_89()
  {
-    if (jj_3R_Modifiers_1065_2_83()) return true;
+    if (jj_3R_Modifiers_1149_2_84()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ClassOrInterfaceBodyDeclaration_1225_7_250()) {
+    if (jj_3R_ClassOrInterfaceBodyDeclaration_1309_7_120()) {
     jj_scanpos = xsp;
-    if (jj_3R_ClassOrInterfaceBodyDeclaration_1227_7_251()) {
+    if (jj_3R_ClassOrInterfaceBodyDeclaration_1311_7_121()) {
     jj_scanpos = xsp;
-    if (jj_3R_ClassOrInterfaceBodyDeclaration_1229_7_252()) {
+    if (jj_3R_ClassOrInterfaceBodyDeclaration_1313_7_122()) {
     jj_scanpos = xsp;
-    if (jj_3R_ClassOrInterfaceBodyDeclaration_1232_7_253()) {
+    if (jj_3R_ClassOrInterfaceBodyDeclaration_1316_7_123()) {
     jj_scanpos = xsp;
-    if (jj_3R_ClassOrInterfaceBodyDeclaration_1235_7_254()) {
+    if (jj_3R_ClassOrInterfaceBodyDeclaration_1319_7_124()) {
     jj_scanpos = xsp;
-    if (jj_3R_ClassOrInterfaceBodyDeclaration_1237_7_255()) return true;
+    if (jj_3R_ClassOrInterfaceBodyDeclaration_1321_7_125()) return true;
     }
     }
     }
@@ -7341,31 +7293,32 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_RSIGNEDSHIFT_1989_3_72()
+  private boolean jj_3R_RUNSIGNEDSHIFT_2070_3_74()
  {
     jj_lookingAhead = true;
     jj_semLA = getToken(1).kind == GT &&
-                ((MyToken)getToken(1)).realKind == RSIGNEDSHIFT;
+                ((MyToken)getToken(1)).realKind == RUNSIGNEDSHIFT;
     jj_lookingAhead = false;
-    if (!jj_semLA || jj_3R_RSIGNEDSHIFT_1989_15_100()) return true;
+    if (!jj_semLA || jj_3R_RUNSIGNEDSHIFT_2070_15_104()) return true;
+    if (jj_scan_token(GT)) return true;
     if (jj_scan_token(GT)) return true;
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3_6()
+  private boolean jj_3_8()
  {
-    if (jj_3R_Initializer_1342_3_65()) return true;
+    if (jj_3R_Initializer_1432_3_66()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1215_3_248()
+  private boolean jj_3R_ClassOrInterfaceBodyDeclaration_1299_3_62()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_6()) {
+    if (jj_3_8()) {
     jj_scanpos = xsp;
-    if (jj_3R_ClassOrInterfaceBodyDeclaration_1222_3_249()) {
+    if (jj_3R_ClassOrInterfaceBodyDeclaration_1306_3_89()) {
     jj_scanpos = xsp;
     if (jj_scan_token(85)) return true;
     }
@@ -7373,207 +7326,204 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_RUNSIGNEDSHIFT_1980_3_73()
+  private boolean jj_3_5()
  {
-    jj_lookingAhead = true;
-    jj_semLA = getToken(1).kind == GT &&
-                ((MyToken)getToken(1)).realKind == RUNSIGNEDSHIFT;
-    jj_lookingAhead = false;
-    if (!jj_semLA || jj_3R_RUNSIGNEDSHIFT_1980_15_101()) return true;
-    if (jj_scan_token(GT)) return true;
-    if (jj_scan_token(GT)) return true;
-    if (jj_scan_token(GT)) return true;
+    if (jj_3R_ClassOrInterfaceBodyDeclaration_1299_3_62()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceBody_1206_9_247()
+  private boolean jj_3R_TryStatement_2060_5_320()
  {
-    if (jj_3R_ClassOrInterfaceBodyDeclaration_1215_3_248()) return true;
+    if (jj_scan_token(FINALLY)) return true;
+    if (jj_3R_Block_1898_3_128()) return true;
     return false;
   }
 
-  private boolean jj_3R_TypeParameters_1188_26_118()
+  private boolean jj_3R_TypeParameters_1272_26_127()
  {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_TypeParameter_1194_4_117()) return true;
+    if (jj_3R_TypeParameter_1278_4_126()) return true;
     return false;
   }
 
-  private boolean jj_3R_TypeParameter_1194_19_130()
+  private boolean jj_3R_TryStatement_2059_5_319()
  {
-    if (jj_3R_TypeBound_1200_4_137()) return true;
+    if (jj_scan_token(CATCH)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_FormalParameter_1396_3_293()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_Block_1898_3_128()) return true;
     return false;
   }
 
-  private boolean jj_3R_EnumConstant_1182_30_296()
+  private boolean jj_3R_TypeParameter_1278_19_145()
  {
-    if (jj_3R_Arguments_1715_3_95()) return true;
+    if (jj_3R_TypeBound_1284_4_155()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceBody_1206_3_245()
+  private boolean jj_3R_EnumConstant_1266_30_300()
  {
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_ClassOrInterfaceBody_1206_9_247()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3R_Arguments_1805_3_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_TryStatement_1970_5_315()
+  private boolean jj_3R_TryStatement_2058_3_210()
  {
-    if (jj_scan_token(FINALLY)) return true;
-    if (jj_3R_Block_1808_3_90()) return true;
+    if (jj_scan_token(TRY)) return true;
+    if (jj_3R_Block_1898_3_128()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_TryStatement_2059_5_319()) { jj_scanpos = xsp; break; }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_TryStatement_2060_5_320()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_TryStatement_1969_5_314()
+  private boolean jj_3R_ClassOrInterfaceBody_1290_3_262()
  {
-    if (jj_scan_token(CATCH)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_FormalParameter_1312_3_291()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_Block_1808_3_90()) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_5()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_TypeBound_1200_4_137()
+  private boolean jj_3R_TypeBound_1284_4_155()
  {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_ClassOrInterfaceType_1371_3_78()) return true;
+    if (jj_3R_ClassOrInterfaceType_1461_3_79()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_TypeBound_1200_39_146()) { jj_scanpos = xsp; break; }
+      if (jj_3R_TypeBound_1284_39_162()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_TryStatement_1968_3_189()
+  private boolean jj_3R_SynchronizedStatement_2048_3_209()
  {
-    if (jj_scan_token(TRY)) return true;
-    if (jj_3R_Block_1808_3_90()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_TryStatement_1969_5_314()) { jj_scanpos = xsp; break; }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_TryStatement_1970_5_315()) jj_scanpos = xsp;
+    if (jj_scan_token(SYNCHRONIZED)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_Block_1898_3_128()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_ReturnStatement_2036_14_318()
+ {
+    if (jj_3R_Expression_1561_3_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_TypeParameter_1194_4_117()
+  private boolean jj_3R_TypeParameter_1278_4_126()
  {
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TypeParameter_1194_19_130()) jj_scanpos = xsp;
+    if (jj_3R_TypeParameter_1278_19_145()) jj_scanpos = xsp;
     return false;
   }
 
   private boolean jj_3_3()
  {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_EnumConstant_1182_3_61()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_SynchronizedStatement_1958_3_188()
- {
-    if (jj_scan_token(SYNCHRONIZED)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_Block_1808_3_90()) return true;
+    if (jj_3R_EnumConstant_1266_3_61()) return true;
     return false;
   }
 
-  private boolean jj_3R_ReturnStatement_1946_14_313()
+  private boolean jj_3R_ThrowStatement_2042_3_208()
  {
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_scan_token(THROW)) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_TypeParameters_1188_4_88()
+  private boolean jj_3R_TypeParameters_1272_4_90()
  {
     if (jj_scan_token(LT)) return true;
-    if (jj_3R_TypeParameter_1194_4_117()) return true;
+    if (jj_3R_TypeParameter_1278_4_126()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_TypeParameters_1188_26_118()) { jj_scanpos = xsp; break; }
+      if (jj_3R_TypeParameters_1272_26_127()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_ThrowStatement_1952_3_187()
+  private boolean jj_3R_ForStatement_1994_47_326()
  {
-    if (jj_scan_token(THROW)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+    if (jj_3R_ForUpdate_2018_3_331()) return true;
     return false;
   }
 
-  private boolean jj_3R_EnumBody_1175_12_290()
+  private boolean jj_3R_StatementExpressionList_2012_27_335()
  {
-    if (jj_3R_ClassOrInterfaceBodyDeclaration_1215_3_248()) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_StatementExpression_1932_3_199()) return true;
     return false;
   }
 
-  private boolean jj_3R_EnumConstant_1182_3_61()
+  private boolean jj_3R_ReturnStatement_2036_3_207()
  {
-    if (jj_3R_Modifiers_1065_2_83()) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_EnumConstant_1182_30_296()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_EnumConstant_1182_46_297()) jj_scanpos = xsp;
+    if (jj_3R_ReturnStatement_2036_14_318()) jj_scanpos = xsp;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_ForStatement_1904_47_322()
+  private boolean jj_3_4()
  {
-    if (jj_3R_ForUpdate_1928_3_327()) return true;
+    if (jj_3R_ClassOrInterfaceBodyDeclaration_1299_3_62()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementExpressionList_1922_27_331()
+  private boolean jj_3R_EnumConstant_1266_3_61()
  {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_StatementExpression_1842_3_178()) return true;
+    if (jj_3R_Modifiers_1149_2_84()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_EnumConstant_1266_30_300()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_EnumConstant_1266_46_301()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_ReturnStatement_1946_3_186()
+  private boolean jj_3R_ContinueStatement_2030_3_206()
  {
-    if (jj_scan_token(RETURN)) return true;
+    if (jj_scan_token(CONTINUE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ReturnStatement_1946_14_313()) jj_scanpos = xsp;
+    if (jj_scan_token(76)) jj_scanpos = xsp;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_EnumBody_1175_6_281()
+  private boolean jj_3R_EnumBody_1259_6_283()
  {
     if (jj_scan_token(SEMICOLON)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_EnumBody_1175_12_290()) { jj_scanpos = xsp; break; }
+      if (jj_3_4()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_EnumBody_1173_6_280()
+  private boolean jj_3R_EnumBody_1257_6_282()
  {
-    if (jj_3R_EnumConstant_1182_3_61()) return true;
+    if (jj_3R_EnumConstant_1266_3_61()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
@@ -7582,23 +7532,23 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_EnumBody_1172_4_265()
+  private boolean jj_3R_EnumBody_1256_4_268()
  {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_EnumBody_1173_6_280()) jj_scanpos = xsp;
+    if (jj_3R_EnumBody_1257_6_282()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(86)) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_EnumBody_1175_6_281()) jj_scanpos = xsp;
+    if (jj_3R_EnumBody_1259_6_283()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ContinueStatement_1940_3_185()
+  private boolean jj_3R_BreakStatement_2024_3_205()
  {
-    if (jj_scan_token(CONTINUE)) return true;
+    if (jj_scan_token(BREAK)) return true;
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(76)) jj_scanpos = xsp;
@@ -7606,453 +7556,449 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_EnumDeclaration_1165_5_264()
+  private boolean jj_3R_ForUpdate_2018_3_331()
  {
-    if (jj_3R_ImplementsList_1153_4_279()) return true;
+    if (jj_3R_StatementExpressionList_2012_3_334()) return true;
     return false;
   }
 
-  private boolean jj_3R_BreakStatement_1934_3_184()
+  private boolean jj_3R_EnumDeclaration_1249_5_267()
  {
-    if (jj_scan_token(BREAK)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(76)) jj_scanpos = xsp;
-    if (jj_scan_token(SEMICOLON)) return true;
+    if (jj_3R_ImplementsList_1237_4_281()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_ForStatement_1994_26_325()
+ {
+    if (jj_3R_Expression_1561_3_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_EnumDeclaration_1164_3_256()
+  private boolean jj_3R_EnumDeclaration_1248_3_140()
  {
     if (jj_scan_token(ENUM)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_EnumDeclaration_1165_5_264()) jj_scanpos = xsp;
-    if (jj_3R_EnumBody_1172_4_265()) return true;
+    if (jj_3R_EnumDeclaration_1249_5_267()) jj_scanpos = xsp;
+    if (jj_3R_EnumBody_1256_4_268()) return true;
     return false;
   }
 
-  private boolean jj_3R_ForUpdate_1928_3_327()
+  private boolean jj_3_42()
  {
-    if (jj_3R_StatementExpressionList_1922_3_330()) return true;
+    if (jj_3R_Modifiers_1149_2_84()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_ForStatement_1904_26_321()
+  private boolean jj_3R_StatementExpressionList_2012_3_334()
  {
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_StatementExpression_1932_3_199()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_StatementExpressionList_2012_27_335()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_ImplementsList_1154_6_289()
+  private boolean jj_3R_IfStatement_1970_43_315()
  {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_ClassOrInterfaceType_1371_3_78()) return true;
+    if (jj_scan_token(ELSE)) return true;
+    if (jj_3R_Statement_1849_3_173()) return true;
     return false;
   }
 
-  private boolean jj_3_40()
+  private boolean jj_3R_ImplementsList_1238_6_292()
  {
-    if (jj_3R_Modifiers_1065_2_83()) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_ClassOrInterfaceType_1461_3_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementExpressionList_1922_3_330()
+  private boolean jj_3R_ForInit_2006_3_333()
  {
-    if (jj_3R_StatementExpression_1842_3_178()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_StatementExpressionList_1922_27_331()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_3R_StatementExpressionList_2012_3_334()) return true;
     return false;
   }
 
-  private boolean jj_3R_ImplementsList_1153_4_279()
+  private boolean jj_3R_ImplementsList_1237_4_281()
  {
     if (jj_scan_token(IMPLEMENTS)) return true;
-    if (jj_3R_ClassOrInterfaceType_1371_3_78()) return true;
+    if (jj_3R_ClassOrInterfaceType_1461_3_79()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_ImplementsList_1154_6_289()) { jj_scanpos = xsp; break; }
+      if (jj_3R_ImplementsList_1238_6_292()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_IfStatement_1880_43_310()
+  private boolean jj_3_41()
  {
-    if (jj_scan_token(ELSE)) return true;
-    if (jj_3R_Statement_1759_3_148()) return true;
+    if (jj_3R_Modifiers_1149_2_84()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(COLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_ForInit_1916_3_329()
+  private boolean jj_3R_ForInit_2003_3_332()
  {
-    if (jj_3R_StatementExpressionList_1922_3_330()) return true;
+    if (jj_3R_LocalVariableDeclaration_1915_3_172()) return true;
     return false;
   }
 
-  private boolean jj_3_39()
+  private boolean jj_3R_ForInit_2003_3_330()
  {
-    if (jj_3R_Modifiers_1065_2_83()) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_scan_token(COLON)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_ForInit_2003_3_332()) {
+    jj_scanpos = xsp;
+    if (jj_3R_ForInit_2006_3_333()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_ForInit_1913_3_328()
+  private boolean jj_3R_ForStatement_1994_8_324()
  {
-    if (jj_3R_LocalVariableDeclaration_1825_3_147()) return true;
+    if (jj_3R_ForInit_2003_3_330()) return true;
     return false;
   }
 
-  private boolean jj_3R_ForInit_1913_3_326()
+  private boolean jj_3R_ForStatement_1994_6_317()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ForInit_1913_3_328()) {
-    jj_scanpos = xsp;
-    if (jj_3R_ForInit_1916_3_329()) return true;
-    }
+    if (jj_3R_ForStatement_1994_8_324()) jj_scanpos = xsp;
+    if (jj_scan_token(SEMICOLON)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_ForStatement_1994_26_325()) jj_scanpos = xsp;
+    if (jj_scan_token(SEMICOLON)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_ForStatement_1994_47_326()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_ExtendsList_1143_6_288()
+  private boolean jj_3R_ExtendsList_1227_6_291()
  {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_ClassOrInterfaceType_1371_3_78()) return true;
+    if (jj_3R_ClassOrInterfaceType_1461_3_79()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_ForStatement_1991_7_316()
+ {
+    if (jj_3R_Modifiers_1149_2_84()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_ExtendsList_1142_4_278()
+  private boolean jj_3R_ExtendsList_1226_4_280()
  {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_ClassOrInterfaceType_1371_3_78()) return true;
+    if (jj_3R_ClassOrInterfaceType_1461_3_79()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_ExtendsList_1143_6_288()) { jj_scanpos = xsp; break; }
+      if (jj_3R_ExtendsList_1227_6_291()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_ForStatement_1904_8_320()
+  private boolean jj_3R_ClassOrInterfaceDeclaration_1210_15_152()
  {
-    if (jj_3R_ForInit_1913_3_326()) return true;
+    if (jj_scan_token(INTERFACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ForStatement_1904_6_312()
+  private boolean jj_3R_ForStatement_1988_3_204()
  {
+    if (jj_scan_token(FOR)) return true;
+    if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ForStatement_1904_8_320()) jj_scanpos = xsp;
-    if (jj_scan_token(SEMICOLON)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_ForStatement_1904_26_321()) jj_scanpos = xsp;
-    if (jj_scan_token(SEMICOLON)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_ForStatement_1904_47_322()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_ForStatement_1901_7_311()
- {
-    if (jj_3R_Modifiers_1065_2_83()) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_ClassOrInterfaceDeclaration_1126_15_171()
- {
-    if (jj_scan_token(INTERFACE)) return true;
+    if (jj_3R_ForStatement_1991_7_316()) {
+    jj_scanpos = xsp;
+    if (jj_3R_ForStatement_1994_6_317()) return true;
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_Statement_1849_3_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceDeclaration_1132_5_263()
+  private boolean jj_3R_ClassOrInterfaceDeclaration_1216_5_266()
  {
-    if (jj_3R_ImplementsList_1153_4_279()) return true;
+    if (jj_3R_ImplementsList_1237_4_281()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceDeclaration_1131_5_262()
+  private boolean jj_3R_ClassOrInterfaceDeclaration_1215_5_265()
  {
-    if (jj_3R_ExtendsList_1142_4_278()) return true;
+    if (jj_3R_ExtendsList_1226_4_280()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceDeclaration_1130_5_261()
+  private boolean jj_3R_ClassOrInterfaceDeclaration_1214_5_264()
  {
-    if (jj_3R_TypeParameters_1188_4_88()) return true;
+    if (jj_3R_TypeParameters_1272_4_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_ForStatement_1898_3_183()
+  private boolean jj_3R_DoStatement_1982_3_203()
  {
-    if (jj_scan_token(FOR)) return true;
+    if (jj_scan_token(DO)) return true;
+    if (jj_3R_Statement_1849_3_173()) return true;
+    if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_ForStatement_1901_7_311()) {
-    jj_scanpos = xsp;
-    if (jj_3R_ForStatement_1904_6_312()) return true;
-    }
+    if (jj_3R_Expression_1561_3_72()) return true;
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_Statement_1759_3_148()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_ClassOrInterfaceDeclaration_1126_3_149()
+  private boolean jj_3R_ClassOrInterfaceDeclaration_1210_3_139()
  {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(20)) {
     jj_scanpos = xsp;
-    if (jj_3R_ClassOrInterfaceDeclaration_1126_15_171()) return true;
+    if (jj_3R_ClassOrInterfaceDeclaration_1210_15_152()) return true;
     }
     if (jj_scan_token(IDENTIFIER)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_ClassOrInterfaceDeclaration_1130_5_261()) jj_scanpos = xsp;
+    if (jj_3R_ClassOrInterfaceDeclaration_1214_5_264()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ClassOrInterfaceDeclaration_1131_5_262()) jj_scanpos = xsp;
+    if (jj_3R_ClassOrInterfaceDeclaration_1215_5_265()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ClassOrInterfaceDeclaration_1132_5_263()) jj_scanpos = xsp;
-    if (jj_3R_ClassOrInterfaceBody_1206_3_245()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DoStatement_1892_3_182()
- {
-    if (jj_scan_token(DO)) return true;
-    if (jj_3R_Statement_1759_3_148()) return true;
-    if (jj_scan_token(WHILE)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+    if (jj_3R_ClassOrInterfaceDeclaration_1216_5_266()) jj_scanpos = xsp;
+    if (jj_3R_ClassOrInterfaceBody_1290_3_262()) return true;
     return false;
   }
 
-  private boolean jj_3R_WhileStatement_1886_3_181()
+  private boolean jj_3R_WhileStatement_1976_3_202()
  {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_Statement_1759_3_148()) return true;
+    if (jj_3R_Statement_1849_3_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_SwitchStatement_1860_23_319()
+  private boolean jj_3R_SwitchStatement_1950_23_323()
  {
-    if (jj_3R_BlockStatement_1814_3_131()) return true;
+    if (jj_3R_BlockStatement_1904_3_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_IfStatement_1880_3_180()
+  private boolean jj_3R_IfStatement_1970_3_201()
  {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_Statement_1759_3_148()) return true;
+    if (jj_3R_Statement_1849_3_173()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_IfStatement_1880_43_310()) jj_scanpos = xsp;
+    if (jj_3R_IfStatement_1970_43_315()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_SwitchLabel_1869_3_325()
+  private boolean jj_3R_SwitchLabel_1959_3_329()
  {
     if (jj_scan_token(_DEFAULT)) return true;
     if (jj_scan_token(COLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_SwitchLabel_1867_3_324()
+  private boolean jj_3R_SwitchLabel_1957_3_328()
  {
     if (jj_scan_token(CASE)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     if (jj_scan_token(COLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_SwitchLabel_1867_3_318()
+  private boolean jj_3R_SwitchLabel_1957_3_322()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SwitchLabel_1867_3_324()) {
+    if (jj_3R_SwitchLabel_1957_3_328()) {
     jj_scanpos = xsp;
-    if (jj_3R_SwitchLabel_1869_3_325()) return true;
+    if (jj_3R_SwitchLabel_1959_3_329()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_LocalVariableDeclaration_1825_45_300()
+  private boolean jj_3R_LocalVariableDeclaration_1915_45_310()
  {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_VariableDeclarator_1253_3_271()) return true;
+    if (jj_3R_VariableDeclarator_1337_3_273()) return true;
     return false;
   }
 
-  private boolean jj_3R_SwitchStatement_1860_7_309()
+  private boolean jj_3R_SwitchStatement_1950_7_314()
  {
-    if (jj_3R_SwitchLabel_1867_3_318()) return true;
+    if (jj_3R_SwitchLabel_1957_3_322()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_SwitchStatement_1860_23_319()) { jj_scanpos = xsp; break; }
+      if (jj_3R_SwitchStatement_1950_23_323()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_SwitchStatement_1859_3_179()
+  private boolean jj_3R_SwitchStatement_1949_3_200()
  {
     if (jj_scan_token(SWITCH)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_SwitchStatement_1860_7_309()) { jj_scanpos = xsp; break; }
+      if (jj_3R_SwitchStatement_1950_7_314()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1090_4_60()
+  private boolean jj_3R_StatementExpression_1942_5_327()
  {
-    if (jj_3R_Annotation_2000_4_87()) return true;
+    if (jj_3R_AssignmentOperator_1571_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1088_4_59()
+  private boolean jj_3R_Modifiers_1174_4_60()
  {
-    if (jj_scan_token(STRICTFP)) return true;
+    if (jj_3R_Annotation_2090_4_88()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_StatementExpression_1938_5_321()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(101)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(102)) {
+    jj_scanpos = xsp;
+    if (jj_3R_StatementExpression_1942_5_327()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_StatementExpression_1852_5_323()
+  private boolean jj_3R_Modifiers_1172_4_59()
  {
-    if (jj_3R_AssignmentOperator_1481_3_70()) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_scan_token(STRICTFP)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1086_4_58()
+  private boolean jj_3R_Modifiers_1170_4_58()
  {
     if (jj_scan_token(VOLATILE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1084_4_57()
+  private boolean jj_3R_Modifiers_1168_4_57()
  {
     if (jj_scan_token(TRANSIENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementExpression_1848_5_317()
+  private boolean jj_3R_StatementExpression_1936_3_215()
  {
+    if (jj_3R_PrimaryExpression_1714_3_220()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(101)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(102)) {
-    jj_scanpos = xsp;
-    if (jj_3R_StatementExpression_1852_5_323()) return true;
-    }
-    }
+    if (jj_3R_StatementExpression_1938_5_321()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1082_4_56()
+  private boolean jj_3R_Modifiers_1166_4_56()
  {
     if (jj_scan_token(NATIVE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1080_4_55()
+  private boolean jj_3R_StatementExpression_1934_3_214()
  {
-    if (jj_scan_token(SYNCHRONIZED)) return true;
+    if (jj_3R_PreDecrementExpression_1667_3_219()) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1078_4_54()
+  private boolean jj_3R_Modifiers_1164_4_55()
  {
-    if (jj_scan_token(ABSTRACT)) return true;
+    if (jj_scan_token(SYNCHRONIZED)) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementExpression_1846_3_196()
+  private boolean jj_3R_StatementExpression_1932_3_199()
  {
-    if (jj_3R_PrimaryExpression_1624_3_201()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_StatementExpression_1848_5_317()) jj_scanpos = xsp;
+    if (jj_3R_StatementExpression_1932_3_213()) {
+    jj_scanpos = xsp;
+    if (jj_3R_StatementExpression_1934_3_214()) {
+    jj_scanpos = xsp;
+    if (jj_3R_StatementExpression_1936_3_215()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1076_4_53()
+  private boolean jj_3R_StatementExpression_1932_3_213()
  {
-    if (jj_scan_token(FINAL)) return true;
+    if (jj_3R_PreIncrementExpression_1661_3_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementExpression_1844_3_195()
+  private boolean jj_3R_Modifiers_1162_4_54()
  {
-    if (jj_3R_PreDecrementExpression_1577_3_200()) return true;
+    if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1074_4_52()
+  private boolean jj_3R_Modifiers_1160_4_53()
  {
-    if (jj_scan_token(PRIVATE)) return true;
+    if (jj_scan_token(FINAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementExpression_1842_3_178()
+  private boolean jj_3R_Modifiers_1158_4_52()
  {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_StatementExpression_1842_3_194()) {
-    jj_scanpos = xsp;
-    if (jj_3R_StatementExpression_1844_3_195()) {
-    jj_scanpos = xsp;
-    if (jj_3R_StatementExpression_1846_3_196()) return true;
-    }
-    }
+    if (jj_scan_token(PRIVATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementExpression_1842_3_194()
+  private boolean jj_3R_Modifiers_1156_4_51()
  {
-    if (jj_3R_PreIncrementExpression_1571_3_199()) return true;
+    if (jj_scan_token(PROTECTED)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1072_4_51()
+  private boolean jj_3R_Modifiers_1154_4_50()
  {
-    if (jj_scan_token(PROTECTED)) return true;
+    if (jj_scan_token(STATIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1070_4_50()
+  private boolean jj_3R_EmptyStatement_1921_3_198()
  {
-    if (jj_scan_token(STATIC)) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1068_4_49()
+  private boolean jj_3R_Modifiers_1152_4_49()
  {
     if (jj_scan_token(PUBLIC)) return true;
     return false;
@@ -8062,29 +8008,29 @@ if (jjtc000) {
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Modifiers_1068_4_49()) {
+    if (jj_3R_Modifiers_1152_4_49()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1070_4_50()) {
+    if (jj_3R_Modifiers_1154_4_50()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1072_4_51()) {
+    if (jj_3R_Modifiers_1156_4_51()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1074_4_52()) {
+    if (jj_3R_Modifiers_1158_4_52()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1076_4_53()) {
+    if (jj_3R_Modifiers_1160_4_53()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1078_4_54()) {
+    if (jj_3R_Modifiers_1162_4_54()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1080_4_55()) {
+    if (jj_3R_Modifiers_1164_4_55()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1082_4_56()) {
+    if (jj_3R_Modifiers_1166_4_56()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1084_4_57()) {
+    if (jj_3R_Modifiers_1168_4_57()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1086_4_58()) {
+    if (jj_3R_Modifiers_1170_4_58()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1088_4_59()) {
+    if (jj_3R_Modifiers_1172_4_59()) {
     jj_scanpos = xsp;
-    if (jj_3R_Modifiers_1090_4_60()) return true;
+    if (jj_3R_Modifiers_1174_4_60()) return true;
     }
     }
     }
@@ -8099,7 +8045,7 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_Modifiers_1065_2_83()
+  private boolean jj_3R_Modifiers_1149_2_84()
  {
     Token xsp;
     while (true) {
@@ -8109,272 +8055,266 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_EmptyStatement_1831_3_177()
- {
-    if (jj_scan_token(SEMICOLON)) return true;
-    return false;
-  }
-
-  private boolean jj_3_38()
+  private boolean jj_3_40()
  {
-    if (jj_3R_Modifiers_1065_2_83()) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
+    if (jj_3R_Modifiers_1149_2_84()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_LocalVariableDeclaration_1825_3_147()
+  private boolean jj_3R_LocalVariableDeclaration_1915_3_172()
  {
-    if (jj_3R_Modifiers_1065_2_83()) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
-    if (jj_3R_VariableDeclarator_1253_3_271()) return true;
+    if (jj_3R_Modifiers_1149_2_84()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
+    if (jj_3R_VariableDeclarator_1337_3_273()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_LocalVariableDeclaration_1825_45_300()) { jj_scanpos = xsp; break; }
+      if (jj_3R_LocalVariableDeclaration_1915_45_310()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_AssertStatement_1796_27_308()
+  private boolean jj_3R_AssertStatement_1886_27_313()
  {
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_BlockStatement_1819_3_140()
+  private boolean jj_3R_BlockStatement_1909_3_165()
  {
-    if (jj_3R_ClassOrInterfaceDeclaration_1126_3_149()) return true;
+    if (jj_3R_ClassOrInterfaceDeclaration_1210_3_139()) return true;
     return false;
   }
 
-  private boolean jj_3R_BlockStatement_1817_3_139()
+  private boolean jj_3R_BlockStatement_1907_3_164()
  {
-    if (jj_3R_Statement_1759_3_148()) return true;
+    if (jj_3R_Statement_1849_3_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_BlockStatement_1814_3_138()
+  private boolean jj_3R_Block_1898_9_146()
  {
-    if (jj_3R_LocalVariableDeclaration_1825_3_147()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+    if (jj_3R_BlockStatement_1904_3_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_BlockStatement_1814_3_131()
+  private boolean jj_3R_BlockStatement_1904_3_156()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_BlockStatement_1814_3_138()) {
+    if (jj_3R_BlockStatement_1904_3_163()) {
     jj_scanpos = xsp;
-    if (jj_3R_BlockStatement_1817_3_139()) {
+    if (jj_3R_BlockStatement_1907_3_164()) {
     jj_scanpos = xsp;
-    if (jj_3R_BlockStatement_1819_3_140()) return true;
+    if (jj_3R_BlockStatement_1909_3_165()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_Block_1808_9_119()
- {
-    if (jj_3R_BlockStatement_1814_3_131()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_null_1030_18_48()
+  private boolean jj_3R_BlockStatement_1904_3_163()
  {
-    if (jj_3R_Annotation_2000_4_87()) return true;
+    if (jj_3R_LocalVariableDeclaration_1915_3_172()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3_1()
+  private boolean jj_3R_Block_1898_3_128()
  {
+    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_null_1030_18_48()) { jj_scanpos = xsp; break; }
+      if (jj_3R_Block_1898_9_146()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(PACKAGE)) return true;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Block_1808_3_90()
+  private boolean jj_3R_null_1114_18_48()
+ {
+    if (jj_3R_Annotation_2090_4_88()) return true;
+    return false;
+  }
+
+  private boolean jj_3_1()
  {
-    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_Block_1808_9_119()) { jj_scanpos = xsp; break; }
+      if (jj_3R_null_1114_18_48()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_scan_token(PACKAGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_LabeledStatement_1802_3_82()
+  private boolean jj_3R_LabeledStatement_1892_3_83()
  {
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Statement_1759_3_148()) return true;
+    if (jj_3R_Statement_1849_3_173()) return true;
     return false;
   }
 
-  private boolean jj_3R_AssertStatement_1796_3_176()
+  private boolean jj_3R_AssertStatement_1886_3_197()
  {
     if (jj_scan_token(ASSERT)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AssertStatement_1796_27_308()) jj_scanpos = xsp;
+    if (jj_3R_AssertStatement_1886_27_313()) jj_scanpos = xsp;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1790_3_170()
+  private boolean jj_3R_Statement_1880_3_192()
  {
-    if (jj_3R_TryStatement_1968_3_189()) return true;
+    if (jj_3R_TryStatement_2058_3_210()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1788_3_169()
+  private boolean jj_3R_Statement_1878_3_191()
  {
-    if (jj_3R_SynchronizedStatement_1958_3_188()) return true;
+    if (jj_3R_SynchronizedStatement_2048_3_209()) return true;
     return false;
   }
 
-  private boolean jj_3_35()
+  private boolean jj_3_37()
  {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1786_3_168()
+  private boolean jj_3R_Statement_1876_3_190()
  {
-    if (jj_3R_ThrowStatement_1952_3_187()) return true;
+    if (jj_3R_ThrowStatement_2042_3_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1784_3_167()
+  private boolean jj_3R_Statement_1874_3_189()
  {
-    if (jj_3R_ReturnStatement_1946_3_186()) return true;
+    if (jj_3R_ReturnStatement_2036_3_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1782_3_166()
+  private boolean jj_3R_Statement_1872_3_188()
  {
-    if (jj_3R_ContinueStatement_1940_3_185()) return true;
+    if (jj_3R_ContinueStatement_2030_3_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1780_3_165()
+  private boolean jj_3R_Statement_1870_3_187()
  {
-    if (jj_3R_BreakStatement_1934_3_184()) return true;
+    if (jj_3R_BreakStatement_2024_3_205()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1778_3_164()
+  private boolean jj_3R_Statement_1868_3_186()
  {
-    if (jj_3R_ForStatement_1898_3_183()) return true;
+    if (jj_3R_ForStatement_1988_3_204()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1776_3_163()
+  private boolean jj_3R_Statement_1866_3_185()
  {
-    if (jj_3R_DoStatement_1892_3_182()) return true;
+    if (jj_3R_DoStatement_1982_3_203()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1774_3_162()
+  private boolean jj_3R_Statement_1864_3_184()
  {
-    if (jj_3R_WhileStatement_1886_3_181()) return true;
+    if (jj_3R_WhileStatement_1976_3_202()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1772_3_161()
+  private boolean jj_3R_Statement_1862_3_183()
  {
-    if (jj_3R_IfStatement_1880_3_180()) return true;
+    if (jj_3R_IfStatement_1970_3_201()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1770_3_160()
+  private boolean jj_3R_Statement_1860_3_182()
  {
-    if (jj_3R_SwitchStatement_1859_3_179()) return true;
+    if (jj_3R_SwitchStatement_1949_3_200()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1768_3_159()
+  private boolean jj_3R_Statement_1858_3_181()
  {
-    if (jj_3R_StatementExpression_1842_3_178()) return true;
+    if (jj_3R_StatementExpression_1932_3_199()) return true;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1766_3_158()
+  private boolean jj_3R_Statement_1856_3_180()
  {
-    if (jj_3R_EmptyStatement_1831_3_177()) return true;
+    if (jj_3R_EmptyStatement_1921_3_198()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1764_3_157()
+  private boolean jj_3R_Statement_1854_3_179()
  {
-    if (jj_3R_Block_1808_3_90()) return true;
+    if (jj_3R_Block_1898_3_128()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1762_3_156()
+  private boolean jj_3R_Statement_1852_3_178()
  {
-    if (jj_3R_AssertStatement_1796_3_176()) return true;
+    if (jj_3R_AssertStatement_1886_3_197()) return true;
     return false;
   }
 
-  private boolean jj_3R_AllocationExpression_1730_34_239()
+  private boolean jj_3R_AllocationExpression_1820_34_256()
  {
-    if (jj_3R_TypeArguments_1382_4_69()) return true;
+    if (jj_3R_TypeArguments_1472_4_70()) return true;
     return false;
   }
 
-  private boolean jj_3_37()
+  private boolean jj_3_39()
  {
-    if (jj_3R_LabeledStatement_1802_3_82()) return true;
+    if (jj_3R_LabeledStatement_1892_3_83()) return true;
     return false;
   }
 
-  private boolean jj_3R_Statement_1759_3_148()
+  private boolean jj_3R_Statement_1849_3_173()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_37()) {
+    if (jj_3_39()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1762_3_156()) {
+    if (jj_3R_Statement_1852_3_178()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1764_3_157()) {
+    if (jj_3R_Statement_1854_3_179()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1766_3_158()) {
+    if (jj_3R_Statement_1856_3_180()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1768_3_159()) {
+    if (jj_3R_Statement_1858_3_181()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1770_3_160()) {
+    if (jj_3R_Statement_1860_3_182()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1772_3_161()) {
+    if (jj_3R_Statement_1862_3_183()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1774_3_162()) {
+    if (jj_3R_Statement_1864_3_184()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1776_3_163()) {
+    if (jj_3R_Statement_1866_3_185()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1778_3_164()) {
+    if (jj_3R_Statement_1868_3_186()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1780_3_165()) {
+    if (jj_3R_Statement_1870_3_187()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1782_3_166()) {
+    if (jj_3R_Statement_1872_3_188()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1784_3_167()) {
+    if (jj_3R_Statement_1874_3_189()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1786_3_168()) {
+    if (jj_3R_Statement_1876_3_190()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1788_3_169()) {
+    if (jj_3R_Statement_1878_3_191()) {
     jj_scanpos = xsp;
-    if (jj_3R_Statement_1790_3_170()) return true;
+    if (jj_3R_Statement_1880_3_192()) return true;
     }
     }
     }
@@ -8393,155 +8333,155 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_AllocationExpression_1734_21_243()
+  private boolean jj_3R_AllocationExpression_1824_21_260()
  {
-    if (jj_3R_ClassOrInterfaceBody_1206_3_245()) return true;
+    if (jj_3R_ClassOrInterfaceBody_1290_3_262()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayDimsAndInits_1748_5_244()
+  private boolean jj_3R_ArrayDimsAndInits_1838_5_261()
  {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_34()
+  private boolean jj_3_36()
  {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayDimsAndInits_1748_3_242()
+  private boolean jj_3R_ArrayDimsAndInits_1838_3_259()
  {
     Token xsp;
-    if (jj_3R_ArrayDimsAndInits_1748_5_244()) return true;
+    if (jj_3R_ArrayDimsAndInits_1838_5_261()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_ArrayDimsAndInits_1748_5_244()) { jj_scanpos = xsp; break; }
+      if (jj_3R_ArrayDimsAndInits_1838_5_261()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_ArrayInitializer_1277_3_120()) return true;
+    if (jj_3R_ArrayInitializer_1361_3_129()) return true;
     return false;
   }
 
-  private boolean jj_3_36()
+  private boolean jj_3_38()
  {
     Token xsp;
-    if (jj_3_34()) return true;
+    if (jj_3_36()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_34()) { jj_scanpos = xsp; break; }
+      if (jj_3_36()) { jj_scanpos = xsp; break; }
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_35()) { jj_scanpos = xsp; break; }
+      if (jj_3_37()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_ArrayDimsAndInits_1745_3_238()
+  private boolean jj_3R_ArrayDimsAndInits_1835_3_255()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_36()) {
+    if (jj_3_38()) {
     jj_scanpos = xsp;
-    if (jj_3R_ArrayDimsAndInits_1748_3_242()) return true;
+    if (jj_3R_ArrayDimsAndInits_1838_3_259()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_AllocationExpression_1734_7_241()
+  private boolean jj_3R_AllocationExpression_1824_7_258()
  {
-    if (jj_3R_Arguments_1715_3_95()) return true;
+    if (jj_3R_Arguments_1805_3_98()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AllocationExpression_1734_21_243()) jj_scanpos = xsp;
+    if (jj_3R_AllocationExpression_1824_21_260()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_ArgumentList_1721_18_141()
+  private boolean jj_3R_ArgumentList_1811_18_157()
  {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     return false;
   }
 
-  private boolean jj_3R_AllocationExpression_1732_7_240()
+  private boolean jj_3R_AllocationExpression_1822_7_257()
  {
-    if (jj_3R_ArrayDimsAndInits_1745_3_238()) return true;
+    if (jj_3R_ArrayDimsAndInits_1835_3_255()) return true;
     return false;
   }
 
-  private boolean jj_3R_AllocationExpression_1730_3_110()
+  private boolean jj_3R_AllocationExpression_1820_3_113()
  {
     if (jj_scan_token(NEW)) return true;
-    if (jj_3R_ClassOrInterfaceType_1371_3_78()) return true;
+    if (jj_3R_ClassOrInterfaceType_1461_3_79()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AllocationExpression_1730_34_239()) jj_scanpos = xsp;
+    if (jj_3R_AllocationExpression_1820_34_256()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AllocationExpression_1732_7_240()) {
+    if (jj_3R_AllocationExpression_1822_7_257()) {
     jj_scanpos = xsp;
-    if (jj_3R_AllocationExpression_1734_7_241()) return true;
+    if (jj_3R_AllocationExpression_1824_7_258()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_AllocationExpression_1727_3_80()
+  private boolean jj_3R_AllocationExpression_1817_3_81()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_33()) {
+    if (jj_3_35()) {
     jj_scanpos = xsp;
-    if (jj_3R_AllocationExpression_1730_3_110()) return true;
+    if (jj_3R_AllocationExpression_1820_3_113()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_33()
+  private boolean jj_3_35()
  {
     if (jj_scan_token(NEW)) return true;
-    if (jj_3R_PrimitiveType_1405_3_75()) return true;
-    if (jj_3R_ArrayDimsAndInits_1745_3_238()) return true;
+    if (jj_3R_PrimitiveType_1495_3_76()) return true;
+    if (jj_3R_ArrayDimsAndInits_1835_3_255()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArgumentList_1721_3_133()
+  private boolean jj_3R_Arguments_1805_9_130()
  {
-    if (jj_3R_Expression_1471_3_71()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_ArgumentList_1721_18_141()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_3R_ArgumentList_1811_3_148()) return true;
     return false;
   }
 
-  private boolean jj_3R_Arguments_1715_9_121()
+  private boolean jj_3R_ArgumentList_1811_3_148()
  {
-    if (jj_3R_ArgumentList_1721_3_133()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_ArgumentList_1811_18_157()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_Arguments_1715_3_95()
+  private boolean jj_3R_Arguments_1805_3_98()
  {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Arguments_1715_9_121()) jj_scanpos = xsp;
+    if (jj_3R_Arguments_1805_9_130()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_NullLiteral_1709_3_153()
+  private boolean jj_3R_NullLiteral_1799_3_169()
  {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_BooleanLiteral_1701_3_152()
+  private boolean jj_3R_BooleanLiteral_1791_3_168()
  {
     Token xsp;
     xsp = jj_scanpos;
@@ -8552,19 +8492,19 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_Literal_1695_3_144()
+  private boolean jj_3R_Literal_1785_3_160()
  {
-    if (jj_3R_NullLiteral_1709_3_153()) return true;
+    if (jj_3R_NullLiteral_1799_3_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_Literal_1693_3_143()
+  private boolean jj_3R_Literal_1783_3_159()
  {
-    if (jj_3R_BooleanLiteral_1701_3_152()) return true;
+    if (jj_3R_BooleanLiteral_1791_3_168()) return true;
     return false;
   }
 
-  private boolean jj_3R_Literal_1685_3_135()
+  private boolean jj_3R_Literal_1775_3_150()
  {
     Token xsp;
     xsp = jj_scanpos;
@@ -8576,9 +8516,9 @@ if (jjtc000) {
     jj_scanpos = xsp;
     if (jj_scan_token(75)) {
     jj_scanpos = xsp;
-    if (jj_3R_Literal_1693_3_143()) {
+    if (jj_3R_Literal_1783_3_159()) {
     jj_scanpos = xsp;
-    if (jj_3R_Literal_1695_3_144()) return true;
+    if (jj_3R_Literal_1785_3_160()) return true;
     }
     }
     }
@@ -8587,41 +8527,41 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_CastLookahead_1603_80_125()
+  private boolean jj_3R_CastLookahead_1693_80_134()
  {
-    if (jj_3R_Literal_1685_3_135()) return true;
+    if (jj_3R_Literal_1775_3_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimarySuffix_1679_3_108()
+  private boolean jj_3R_PrimarySuffix_1769_3_111()
  {
-    if (jj_3R_Arguments_1715_3_95()) return true;
+    if (jj_3R_Arguments_1805_3_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimarySuffix_1677_3_107()
+  private boolean jj_3R_PrimarySuffix_1767_3_110()
  {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_30()
+  private boolean jj_3_32()
  {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimarySuffix_1675_3_106()
+  private boolean jj_3R_PrimarySuffix_1765_3_109()
  {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_29()
+  private boolean jj_3_31()
  {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(SUPER)) return true;
@@ -8629,58 +8569,58 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3_32()
+  private boolean jj_3_34()
  {
-    if (jj_3R_MemberSelector_1630_3_81()) return true;
+    if (jj_3R_MemberSelector_1720_3_82()) return true;
     return false;
   }
 
-  private boolean jj_3_31()
+  private boolean jj_3_33()
  {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_AllocationExpression_1727_3_80()) return true;
+    if (jj_3R_AllocationExpression_1817_3_81()) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimarySuffix_1666_3_105()
+  private boolean jj_3R_PrimarySuffix_1756_3_108()
  {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3_28()
+  private boolean jj_3_30()
  {
-    if (jj_3R_ResultType_1425_3_79()) return true;
+    if (jj_3R_ResultType_1515_3_80()) return true;
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(CLASS)) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimarySuffix_1663_3_104()
+  private boolean jj_3R_PrimarySuffix_1753_3_107()
  {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(SUPER)) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimarySuffix_1663_3_76()
+  private boolean jj_3R_PrimarySuffix_1753_3_77()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_PrimarySuffix_1663_3_104()) {
+    if (jj_3R_PrimarySuffix_1753_3_107()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimarySuffix_1666_3_105()) {
+    if (jj_3R_PrimarySuffix_1756_3_108()) {
     jj_scanpos = xsp;
-    if (jj_3_31()) {
+    if (jj_3_33()) {
     jj_scanpos = xsp;
-    if (jj_3_32()) {
+    if (jj_3_34()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimarySuffix_1675_3_106()) {
+    if (jj_3R_PrimarySuffix_1765_3_109()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimarySuffix_1677_3_107()) {
+    if (jj_3R_PrimarySuffix_1767_3_110()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimarySuffix_1679_3_108()) return true;
+    if (jj_3R_PrimarySuffix_1769_3_111()) return true;
     }
     }
     }
@@ -8690,9 +8630,9 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3_27()
+  private boolean jj_3_29()
  {
-    if (jj_3R_ClassOrInterfaceType_1371_3_78()) return true;
+    if (jj_3R_ClassOrInterfaceType_1461_3_79()) return true;
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(SUPER)) return true;
     if (jj_scan_token(DOT)) return true;
@@ -8700,55 +8640,55 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_PrimaryPrefix_1657_3_214()
+  private boolean jj_3R_PrimaryPrefix_1747_3_233()
  {
-    if (jj_3R_Name_1439_3_84()) return true;
+    if (jj_3R_Name_1529_3_85()) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimaryPrefix_1654_3_213()
+  private boolean jj_3R_PrimaryPrefix_1744_3_232()
  {
-    if (jj_3R_ResultType_1425_3_79()) return true;
+    if (jj_3R_ResultType_1515_3_80()) return true;
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(CLASS)) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimaryPrefix_1652_3_212()
+  private boolean jj_3R_PrimaryPrefix_1742_3_231()
  {
-    if (jj_3R_AllocationExpression_1727_3_80()) return true;
+    if (jj_3R_AllocationExpression_1817_3_81()) return true;
     return false;
   }
 
-  private boolean jj_3R_null_1638_16_77()
+  private boolean jj_3R_null_1728_16_78()
  {
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimaryPrefix_1650_3_211()
+  private boolean jj_3R_PrimaryPrefix_1740_3_230()
  {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Expression_1471_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_26()
+  private boolean jj_3_28()
  {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_null_1638_16_77()) { jj_scanpos = xsp; break; }
+      if (jj_3R_null_1728_16_78()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimaryPrefix_1647_4_210()
+  private boolean jj_3R_PrimaryPrefix_1737_4_229()
  {
-    if (jj_3R_ClassOrInterfaceType_1371_3_78()) return true;
+    if (jj_3R_ClassOrInterfaceType_1461_3_79()) return true;
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(SUPER)) return true;
     if (jj_scan_token(DOT)) return true;
@@ -8756,13 +8696,13 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3_25()
+  private boolean jj_3_27()
  {
-    if (jj_3R_PrimarySuffix_1663_3_76()) return true;
+    if (jj_3R_PrimarySuffix_1753_3_77()) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimaryPrefix_1642_3_209()
+  private boolean jj_3R_PrimaryPrefix_1732_3_228()
  {
     if (jj_scan_token(SUPER)) return true;
     if (jj_scan_token(DOT)) return true;
@@ -8770,43 +8710,43 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_PrimaryPrefix_1639_5_217()
+  private boolean jj_3R_PrimaryPrefix_1729_5_236()
  {
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimaryPrefix_1638_3_208()
+  private boolean jj_3R_PrimaryPrefix_1728_3_227()
  {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_PrimaryPrefix_1639_5_217()) { jj_scanpos = xsp; break; }
+      if (jj_3R_PrimaryPrefix_1729_5_236()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimaryPrefix_1636_3_204()
+  private boolean jj_3R_PrimaryPrefix_1726_3_223()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_PrimaryPrefix_1636_3_207()) {
+    if (jj_3R_PrimaryPrefix_1726_3_226()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimaryPrefix_1638_3_208()) {
+    if (jj_3R_PrimaryPrefix_1728_3_227()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimaryPrefix_1642_3_209()) {
+    if (jj_3R_PrimaryPrefix_1732_3_228()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimaryPrefix_1647_4_210()) {
+    if (jj_3R_PrimaryPrefix_1737_4_229()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimaryPrefix_1650_3_211()) {
+    if (jj_3R_PrimaryPrefix_1740_3_230()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimaryPrefix_1652_3_212()) {
+    if (jj_3R_PrimaryPrefix_1742_3_231()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimaryPrefix_1654_3_213()) {
+    if (jj_3R_PrimaryPrefix_1744_3_232()) {
     jj_scanpos = xsp;
-    if (jj_3R_PrimaryPrefix_1657_3_214()) return true;
+    if (jj_3R_PrimaryPrefix_1747_3_233()) return true;
     }
     }
     }
@@ -8817,13 +8757,13 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_PrimaryPrefix_1636_3_207()
+  private boolean jj_3R_PrimaryPrefix_1726_3_226()
  {
-    if (jj_3R_Literal_1685_3_135()) return true;
+    if (jj_3R_Literal_1775_3_150()) return true;
     return false;
   }
 
-  private boolean jj_3R_PostfixExpression_1609_25_237()
+  private boolean jj_3R_PostfixExpression_1699_25_254()
  {
     Token xsp;
     xsp = jj_scanpos;
@@ -8834,82 +8774,82 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_MemberSelector_1630_3_81()
+  private boolean jj_3R_MemberSelector_1720_3_82()
  {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_TypeArguments_1382_4_69()) return true;
+    if (jj_3R_TypeArguments_1472_4_70()) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_24()
+  private boolean jj_3_26()
  {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_PrimitiveType_1405_3_75()) return true;
+    if (jj_3R_PrimitiveType_1495_3_76()) return true;
     return false;
   }
 
-  private boolean jj_3R_PrimaryExpression_1624_3_201()
+  private boolean jj_3R_PrimaryExpression_1714_3_220()
  {
-    if (jj_3R_PrimaryPrefix_1636_3_204()) return true;
+    if (jj_3R_PrimaryPrefix_1726_3_223()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_25()) { jj_scanpos = xsp; break; }
+      if (jj_3_27()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_CastExpression_1618_3_236()
+  private boolean jj_3R_CastExpression_1708_3_253()
  {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_UnaryExpressionNotPlusMinus_1583_3_227()) return true;
+    if (jj_3R_UnaryExpressionNotPlusMinus_1673_3_244()) return true;
     return false;
   }
 
-  private boolean jj_3R_CastExpression_1615_3_233()
+  private boolean jj_3R_CastExpression_1705_3_250()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CastExpression_1615_3_235()) {
+    if (jj_3R_CastExpression_1705_3_252()) {
     jj_scanpos = xsp;
-    if (jj_3R_CastExpression_1618_3_236()) return true;
+    if (jj_3R_CastExpression_1708_3_253()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_CastExpression_1615_3_235()
+  private boolean jj_3R_CastExpression_1705_3_252()
  {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_UnaryExpression_1559_3_221()) return true;
+    if (jj_3R_UnaryExpression_1649_3_238()) return true;
     return false;
   }
 
-  private boolean jj_3_23()
+  private boolean jj_3_25()
  {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
     if (jj_scan_token(LBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_PostfixExpression_1609_3_234()
+  private boolean jj_3R_PostfixExpression_1699_3_251()
  {
-    if (jj_3R_PrimaryExpression_1624_3_201()) return true;
+    if (jj_3R_PrimaryExpression_1714_3_220()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_PostfixExpression_1609_25_237()) jj_scanpos = xsp;
+    if (jj_3R_PostfixExpression_1699_25_254()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CastLookahead_1603_3_103()
+  private boolean jj_3R_CastLookahead_1693_3_106()
  {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -8927,7 +8867,7 @@ if (jjtc000) {
     jj_scanpos = xsp;
     if (jj_scan_token(43)) {
     jj_scanpos = xsp;
-    if (jj_3R_CastLookahead_1603_80_125()) return true;
+    if (jj_3R_CastLookahead_1693_80_134()) return true;
     }
     }
     }
@@ -8938,75 +8878,75 @@ if (jjtc000) {
     return false;
   }
 
-  private boolean jj_3R_CastLookahead_1600_3_102()
+  private boolean jj_3R_CastLookahead_1690_3_105()
  {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_22()
- {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_PrimitiveType_1405_3_75()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CastLookahead_1597_3_74()
+  private boolean jj_3R_CastLookahead_1687_3_75()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_22()) {
+    if (jj_3_24()) {
     jj_scanpos = xsp;
-    if (jj_3R_CastLookahead_1600_3_102()) {
+    if (jj_3R_CastLookahead_1690_3_105()) {
     jj_scanpos = xsp;
-    if (jj_3R_CastLookahead_1603_3_103()) return true;
+    if (jj_3R_CastLookahead_1693_3_106()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3_21()
+  private boolean jj_3_24()
  {
-    if (jj_3R_CastLookahead_1597_3_74()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_PrimitiveType_1495_3_76()) return true;
     return false;
   }
 
-  private boolean jj_3_20()
+  private boolean jj_3_23()
+ {
+    if (jj_3R_CastLookahead_1687_3_75()) return true;
+    return false;
+  }
+
+  private boolean jj_3_22()
  {
-    if (jj_3R_RUNSIGNEDSHIFT_1980_3_73()) return true;
+    if (jj_3R_RUNSIGNEDSHIFT_2070_3_74()) return true;
     return false;
   }
 
-  private boolean jj_3R_UnaryExpressionNotPlusMinus_1588_3_231()
+  private boolean jj_3R_UnaryExpressionNotPlusMinus_1678_3_248()
  {
-    if (jj_3R_PostfixExpression_1609_3_234()) return true;
+    if (jj_3R_PostfixExpression_1699_3_251()) return true;
     return false;
   }
 
-  private boolean jj_3R_UnaryExpressionNotPlusMinus_1585_3_230()
+  private boolean jj_3R_UnaryExpressionNotPlusMinus_1675_3_247()
  {
-    if (jj_3R_CastExpression_1615_3_233()) return true;
+    if (jj_3R_CastExpression_1705_3_250()) return true;
     return false;
   }
 
-  private boolean jj_3R_UnaryExpressionNotPlusMinus_1583_3_227()
+  private boolean jj_3R_UnaryExpressionNotPlusMinus_1673_3_244()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UnaryExpressionNotPlusMinus_1583_3_229()) {
+    if (jj_3R_UnaryExpressionNotPlusMinus_1673_3_246()) {
     jj_scanpos = xsp;
-    if (jj_3R_UnaryExpressionNotPlusMinus_1585_3_230()) {
+    if (jj_3R_UnaryExpressionNotPlusMinus_1675_3_247()) {
     jj_scanpos = xsp;
-    if (jj_3R_UnaryExpressionNotPlusMinus_1588_3_231()) return true;
+    if (jj_3R_UnaryExpressionNotPlusMinus_1678_3_248()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_UnaryExpressionNotPlusMinus_1583_3_229()
+  private boolean jj_3R_UnaryExpressionNotPlusMinus_1673_3_246()
  {
     Token xsp;
     xsp = jj_scanpos;
@@ -9014,18 +8954,18 @@ if (jjtc000) {
     jj_scanpos = xsp;
     if (jj_scan_token(91)) return true;
     }
-    if (jj_3R_UnaryExpression_1559_3_221()) return true;
+    if (jj_3R_UnaryExpression_1649_3_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_PreDecrementExpression_1577_3_200()
+  private boolean jj_3R_PreDecrementExpression_1667_3_219()
  {
     if (jj_scan_token(DECR)) return true;
-    if (jj_3R_PrimaryExpression_1624_3_201()) return true;
+    if (jj_3R_PrimaryExpression_1714_3_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_AdditiveExpression_1547_32_228()
+  private boolean jj_3R_AdditiveExpression_1637_32_245()
  {
     Token xsp;
     xsp = jj_scanpos;
@@ -9033,17 +8973,17 @@ if (jjtc000) {
     jj_scanpos = xsp;
     if (jj_scan_token(104)) return true;
     }
-    if (jj_3R_MultiplicativeExpression_1553_3_219()) return true;
+    if (jj_3R_MultiplicativeExpression_1643_3_235()) return true;
     return false;
   }
 
-  private boolean jj_3_19()
+  private boolean jj_3_21()
  {
-    if (jj_3R_RSIGNEDSHIFT_1989_3_72()) return true;
+    if (jj_3R_RSIGNEDSHIFT_2079_3_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_MultiplicativeExpression_1553_23_232()
+  private boolean jj_3R_MultiplicativeExpression_1643_23_249()
  {
     Token xsp;
     xsp = jj_scanpos;
@@ -9054,68 +8994,68 @@ if (jjtc000) {
     if (jj_scan_token(110)) return true;
     }
     }
-    if (jj_3R_UnaryExpression_1559_3_221()) return true;
+    if (jj_3R_UnaryExpression_1649_3_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_PreIncrementExpression_1571_3_199()
+  private boolean jj_3R_PreIncrementExpression_1661_3_218()
  {
     if (jj_scan_token(INCR)) return true;
-    if (jj_3R_PrimaryExpression_1624_3_201()) return true;
+    if (jj_3R_PrimaryExpression_1714_3_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_UnaryExpression_1565_3_226()
+  private boolean jj_3R_UnaryExpression_1655_3_243()
  {
-    if (jj_3R_UnaryExpressionNotPlusMinus_1583_3_227()) return true;
+    if (jj_3R_UnaryExpressionNotPlusMinus_1673_3_244()) return true;
     return false;
   }
 
-  private boolean jj_3_18()
+  private boolean jj_3_20()
  {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(111)) {
     jj_scanpos = xsp;
-    if (jj_3_19()) {
+    if (jj_3_21()) {
     jj_scanpos = xsp;
-    if (jj_3_20()) return true;
+    if (jj_3_22()) return true;
     }
     }
-    if (jj_3R_AdditiveExpression_1547_3_216()) return true;
+    if (jj_3R_AdditiveExpression_1637_3_225()) return true;
     return false;
   }
 
-  private boolean jj_3R_UnaryExpression_1563_3_225()
+  private boolean jj_3R_UnaryExpression_1653_3_242()
  {
-    if (jj_3R_PreDecrementExpression_1577_3_200()) return true;
+    if (jj_3R_PreDecrementExpression_1667_3_219()) return true;
     return false;
   }
 
-  private boolean jj_3R_UnaryExpression_1561_3_224()
+  private boolean jj_3R_UnaryExpression_1651_3_241()
  {
-    if (jj_3R_PreIncrementExpression_1571_3_199()) return true;
+    if (jj_3R_PreIncrementExpression_1661_3_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_UnaryExpression_1559_3_221()
+  private boolean jj_3R_UnaryExpression_1649_3_238()
  {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UnaryExpression_1559_3_223()) {
+    if (jj_3R_UnaryExpression_1649_3_240()) {
     jj_scanpos = xsp;
-    if (jj_3R_UnaryExpression_1561_3_224()) {
+    if (jj_3R_UnaryExpression_1651_3_241()) {
     jj_scanpos = xsp;
-    if (jj_3R_UnaryExpression_1563_3_225()) {
+    if (jj_3R_UnaryExpression_1653_3_242()) {
     jj_scanpos = xsp;
-    if (jj_3R_UnaryExpression_1565_3_226()) return true;
+    if (jj_3R_UnaryExpression_1655_3_243()) return true;
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_UnaryExpression_1559_3_223()
+  private boolean jj_3R_UnaryExpression_1649_3_240()
  {
     Token xsp;
     xsp = jj_scanpos;
@@ -9123,11 +9063,11 @@ if (jjtc000) {
     jj_scanpos = xsp;
     if (jj_scan_token(104)) return true;
     }
-    if (jj_3R_UnaryExpression_1559_3_221()) return true;
+    if (jj_3R_UnaryExpression_1649_3_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_RelationalExpression_1535_23_222()
+  private boolean jj_3R_RelationalExpression_1625_23_239()
  {
     Token xsp;
     xsp = jj_scanpos;
@@ -9141,29 +9081,29 @@ if (jjtc000) {
     }
     }
     }
-    if (jj_3R_ShiftExpression_1541_3_206()) return true;
+    if (jj_3R_ShiftExpression_1631_3_222()) return true;
     return false;
   }
 
-  private boolean jj_3R_InstanceOfExpression_1529_28_220()
+  private boolean jj_3R_InstanceOfExpression_1619_28_237()
  {
     if (jj_scan_token(INSTANCEOF)) return true;
-    if (jj_3R_Type_1353_4_63()) return true;
+    if (jj_3R_Type_1443_4_64()) return true;
     return false;
   }
 
-  private boolean jj_3R_MultiplicativeExpression_1553_3_219()
+  private boolean jj_3R_MultiplicativeExpression_1643_3_235()
  {
-    if (jj_3R_UnaryExpression_1559_3_221()) return true;
+    if (jj_3R_UnaryExpression_1649_3_238()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_MultiplicativeExpression_1553_23_232()) { jj_scanpos = xsp; break; }
+      if (jj_3R_MultiplicativeExpression_1643_23_249()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_EqualityExpression_1523_28_218()
+  private boolean jj_3R_EqualityExpression_1613_28_234()
  {
     Token xsp;
     xsp = jj_scanpos;
@@ -9171,54 +9111,250 @@ if (jjtc000) {
     jj_scanpos = xsp;
     if (jj_scan_token(98)) return true;
     }
-    if (jj_3R_InstanceOfExpression_1529_3_198()) return true;
+    if (jj_3R_InstanceOfExpression_1619_3_212()) return true;
     return false;
   }
 
-  private boolean jj_3R_AdditiveExpression_1547_3_216()
+  private boolean jj_3R_AdditiveExpression_1637_3_225()
  {
-    if (jj_3R_MultiplicativeExpression_1553_3_219()) return true;
+    if (jj_3R_MultiplicativeExpression_1643_3_235()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_AdditiveExpression_1547_32_228()) { jj_scanpos = xsp; break; }
+      if (jj_3R_AdditiveExpression_1637_32_245()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_ShiftExpression_1541_3_206()
+  private boolean jj_3R_ShiftExpression_1631_3_222()
  {
-    if (jj_3R_AdditiveExpression_1547_3_216()) return true;
+    if (jj_3R_AdditiveExpression_1637_3_225()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_18()) { jj_scanpos = xsp; break; }
+      if (jj_3_20()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_AndExpression_1517_26_215()
+  private boolean jj_3R_AndExpression_1607_26_224()
  {
     if (jj_scan_token(BIT_AND)) return true;
-    if (jj_3R_EqualityExpression_1523_3_193()) return true;
+    if (jj_3R_EqualityExpression_1613_3_196()) return true;
     return false;
   }
 
-  private boolean jj_3R_RelationalExpression_1535_3_203()
+  private boolean jj_3R_RelationalExpression_1625_3_217()
  {
-    if (jj_3R_ShiftExpression_1541_3_206()) return true;
+    if (jj_3R_ShiftExpression_1631_3_222()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_RelationalExpression_1535_23_222()) { jj_scanpos = xsp; break; }
+      if (jj_3R_RelationalExpression_1625_23_239()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_InclusiveOrExpression_1505_29_202()
+  private boolean jj_3R_InclusiveOrExpression_1595_29_216()
  {
     if (jj_scan_token(BIT_OR)) return true;
-    if (jj_3R_ExclusiveOrExpression_1511_3_151()) return true;
+    if (jj_3R_ExclusiveOrExpression_1601_3_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_InstanceOfExpression_1619_3_212()
+ {
+    if (jj_3R_RelationalExpression_1625_3_217()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_InstanceOfExpression_1619_28_237()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_ExclusiveOrExpression_1601_21_221()
+ {
+    if (jj_scan_token(XOR)) return true;
+    if (jj_3R_AndExpression_1607_3_176()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_ConditionalAndExpression_1589_29_211()
+ {
+    if (jj_scan_token(SC_AND)) return true;
+    if (jj_3R_InclusiveOrExpression_1595_3_158()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_EqualityExpression_1613_3_196()
+ {
+    if (jj_3R_InstanceOfExpression_1619_3_212()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_EqualityExpression_1613_28_234()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_ConditionalOrExpression_1583_32_195()
+ {
+    if (jj_scan_token(SC_OR)) return true;
+    if (jj_3R_ConditionalAndExpression_1589_3_149()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AndExpression_1607_3_176()
+ {
+    if (jj_3R_EqualityExpression_1613_3_196()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_AndExpression_1607_26_224()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_ConditionalExpression_1577_31_175()
+ {
+    if (jj_scan_token(HOOK)) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_ExclusiveOrExpression_1601_3_167()
+ {
+    if (jj_3R_AndExpression_1607_3_176()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_ExclusiveOrExpression_1601_21_221()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_InclusiveOrExpression_1595_3_158()
+ {
+    if (jj_3R_ExclusiveOrExpression_1601_3_167()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_InclusiveOrExpression_1595_29_216()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_ConditionalAndExpression_1589_3_149()
+ {
+    if (jj_3R_InclusiveOrExpression_1595_3_158()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_ConditionalAndExpression_1589_29_211()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_ConditionalOrExpression_1583_3_133()
+ {
+    if (jj_3R_ConditionalAndExpression_1589_3_149()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_ConditionalOrExpression_1583_32_195()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_ConditionalExpression_1577_3_102()
+ {
+    if (jj_3R_ConditionalOrExpression_1583_3_133()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_ConditionalExpression_1577_31_175()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_AssignmentOperator_1571_3_71()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(89)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(114)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(115)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(119)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(112)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(113)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(120)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(121)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(122)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(116)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(118)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(117)) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3_19()
+ {
+    if (jj_3R_AssignmentOperator_1571_3_71()) return true;
+    if (jj_3R_Expression_1561_3_72()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_Expression_1561_3_72()
+ {
+    if (jj_3R_ConditionalExpression_1577_3_102()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_19()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_NameList_1541_12_295()
+ {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Name_1529_3_85()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_NameList_1541_3_285()
+ {
+    if (jj_3R_Name_1529_3_85()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_NameList_1541_12_295()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3_18()
+ {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
@@ -29,87 +29,88 @@ public interface JavaParserTreeConstants
   public int JJTFORMALPARAMETERS = 23;
   public int JJTFORMALPARAMETER = 24;
   public int JJTCONSTRUCTORDECLARATION = 25;
-  public int JJTEXPLICITCONSTRUCTORINVOCATION = 26;
-  public int JJTINITIALIZER = 27;
-  public int JJTTYPE = 28;
-  public int JJTREFERENCETYPE = 29;
-  public int JJTCLASSORINTERFACETYPE = 30;
-  public int JJTTYPEARGUMENTS = 31;
-  public int JJTTYPEARGUMENT = 32;
-  public int JJTWILDCARDBOUNDS = 33;
-  public int JJTPRIMITIVETYPE = 34;
-  public int JJTRESULTTYPE = 35;
-  public int JJTNAME = 36;
-  public int JJTNAMELIST = 37;
-  public int JJTEXPRESSION = 38;
-  public int JJTASSIGNMENTOPERATOR = 39;
-  public int JJTCONDITIONALEXPRESSION = 40;
-  public int JJTCONDITIONALOREXPRESSION = 41;
-  public int JJTCONDITIONALANDEXPRESSION = 42;
-  public int JJTINCLUSIVEOREXPRESSION = 43;
-  public int JJTEXCLUSIVEOREXPRESSION = 44;
-  public int JJTANDEXPRESSION = 45;
-  public int JJTEQUALITYEXPRESSION = 46;
-  public int JJTINSTANCEOFEXPRESSION = 47;
-  public int JJTRELATIONALEXPRESSION = 48;
-  public int JJTSHIFTEXPRESSION = 49;
-  public int JJTADDITIVEEXPRESSION = 50;
-  public int JJTMULTIPLICATIVEEXPRESSION = 51;
-  public int JJTUNARYEXPRESSION = 52;
-  public int JJTPREINCREMENTEXPRESSION = 53;
-  public int JJTPREDECREMENTEXPRESSION = 54;
-  public int JJTUNARYEXPRESSIONNOTPLUSMINUS = 55;
-  public int JJTCASTLOOKAHEAD = 56;
-  public int JJTPOSTFIXEXPRESSION = 57;
-  public int JJTCASTEXPRESSION = 58;
-  public int JJTPRIMARYEXPRESSION = 59;
-  public int JJTMEMBERSELECTOR = 60;
-  public int JJTPRIMARYPREFIX = 61;
-  public int JJTPRIMARYSUFFIX = 62;
-  public int JJTLITERAL = 63;
-  public int JJTBOOLEANLITERAL = 64;
-  public int JJTNULLLITERAL = 65;
-  public int JJTARGUMENTS = 66;
-  public int JJTARGUMENTLIST = 67;
-  public int JJTALLOCATIONEXPRESSION = 68;
-  public int JJTARRAYDIMSANDINITS = 69;
-  public int JJTSTATEMENT = 70;
-  public int JJTASSERTSTATEMENT = 71;
-  public int JJTLABELEDSTATEMENT = 72;
-  public int JJTBLOCK = 73;
-  public int JJTBLOCKSTATEMENT = 74;
-  public int JJTLOCALVARIABLEDECLARATION = 75;
-  public int JJTEMPTYSTATEMENT = 76;
-  public int JJTSTATEMENTEXPRESSION = 77;
-  public int JJTSWITCHSTATEMENT = 78;
-  public int JJTSWITCHLABEL = 79;
-  public int JJTIFSTATEMENT = 80;
-  public int JJTWHILESTATEMENT = 81;
-  public int JJTDOSTATEMENT = 82;
-  public int JJTFORSTATEMENT = 83;
-  public int JJTFORINIT = 84;
-  public int JJTSTATEMENTEXPRESSIONLIST = 85;
-  public int JJTFORUPDATE = 86;
-  public int JJTBREAKSTATEMENT = 87;
-  public int JJTCONTINUESTATEMENT = 88;
-  public int JJTRETURNSTATEMENT = 89;
-  public int JJTTHROWSTATEMENT = 90;
-  public int JJTSYNCHRONIZEDSTATEMENT = 91;
-  public int JJTTRYSTATEMENT = 92;
-  public int JJTRUNSIGNEDSHIFT = 93;
-  public int JJTRSIGNEDSHIFT = 94;
-  public int JJTANNOTATION = 95;
-  public int JJTNORMALANNOTATION = 96;
-  public int JJTMARKERANNOTATION = 97;
-  public int JJTSINGLEMEMBERANNOTATION = 98;
-  public int JJTMEMBERVALUEPAIRS = 99;
-  public int JJTMEMBERVALUEPAIR = 100;
-  public int JJTMEMBERVALUE = 101;
-  public int JJTMEMBERVALUEARRAYINITIALIZER = 102;
-  public int JJTANNOTATIONTYPEDECLARATION = 103;
-  public int JJTANNOTATIONTYPEBODY = 104;
-  public int JJTANNOTATIONTYPEMEMBERDECLARATION = 105;
-  public int JJTDEFAULTVALUE = 106;
+  public int JJTVOID = 26;
+  public int JJTEXPLICITCONSTRUCTORINVOCATION = 27;
+  public int JJTINITIALIZER = 28;
+  public int JJTTYPE = 29;
+  public int JJTREFERENCETYPE = 30;
+  public int JJTCLASSORINTERFACETYPE = 31;
+  public int JJTTYPEARGUMENTS = 32;
+  public int JJTTYPEARGUMENT = 33;
+  public int JJTWILDCARDBOUNDS = 34;
+  public int JJTPRIMITIVETYPE = 35;
+  public int JJTRESULTTYPE = 36;
+  public int JJTNAME = 37;
+  public int JJTNAMELIST = 38;
+  public int JJTEXPRESSION = 39;
+  public int JJTASSIGNMENTOPERATOR = 40;
+  public int JJTCONDITIONALEXPRESSION = 41;
+  public int JJTCONDITIONALOREXPRESSION = 42;
+  public int JJTCONDITIONALANDEXPRESSION = 43;
+  public int JJTINCLUSIVEOREXPRESSION = 44;
+  public int JJTEXCLUSIVEOREXPRESSION = 45;
+  public int JJTANDEXPRESSION = 46;
+  public int JJTEQUALITYEXPRESSION = 47;
+  public int JJTINSTANCEOFEXPRESSION = 48;
+  public int JJTRELATIONALEXPRESSION = 49;
+  public int JJTSHIFTEXPRESSION = 50;
+  public int JJTADDITIVEEXPRESSION = 51;
+  public int JJTMULTIPLICATIVEEXPRESSION = 52;
+  public int JJTUNARYEXPRESSION = 53;
+  public int JJTPREINCREMENTEXPRESSION = 54;
+  public int JJTPREDECREMENTEXPRESSION = 55;
+  public int JJTUNARYEXPRESSIONNOTPLUSMINUS = 56;
+  public int JJTCASTLOOKAHEAD = 57;
+  public int JJTPOSTFIXEXPRESSION = 58;
+  public int JJTCASTEXPRESSION = 59;
+  public int JJTPRIMARYEXPRESSION = 60;
+  public int JJTMEMBERSELECTOR = 61;
+  public int JJTPRIMARYPREFIX = 62;
+  public int JJTPRIMARYSUFFIX = 63;
+  public int JJTLITERAL = 64;
+  public int JJTBOOLEANLITERAL = 65;
+  public int JJTNULLLITERAL = 66;
+  public int JJTARGUMENTS = 67;
+  public int JJTARGUMENTLIST = 68;
+  public int JJTALLOCATIONEXPRESSION = 69;
+  public int JJTARRAYDIMSANDINITS = 70;
+  public int JJTSTATEMENT = 71;
+  public int JJTASSERTSTATEMENT = 72;
+  public int JJTLABELEDSTATEMENT = 73;
+  public int JJTBLOCK = 74;
+  public int JJTBLOCKSTATEMENT = 75;
+  public int JJTLOCALVARIABLEDECLARATION = 76;
+  public int JJTEMPTYSTATEMENT = 77;
+  public int JJTSTATEMENTEXPRESSION = 78;
+  public int JJTSWITCHSTATEMENT = 79;
+  public int JJTSWITCHLABEL = 80;
+  public int JJTIFSTATEMENT = 81;
+  public int JJTWHILESTATEMENT = 82;
+  public int JJTDOSTATEMENT = 83;
+  public int JJTFORSTATEMENT = 84;
+  public int JJTFORINIT = 85;
+  public int JJTSTATEMENTEXPRESSIONLIST = 86;
+  public int JJTFORUPDATE = 87;
+  public int JJTBREAKSTATEMENT = 88;
+  public int JJTCONTINUESTATEMENT = 89;
+  public int JJTRETURNSTATEMENT = 90;
+  public int JJTTHROWSTATEMENT = 91;
+  public int JJTSYNCHRONIZEDSTATEMENT = 92;
+  public int JJTTRYSTATEMENT = 93;
+  public int JJTRUNSIGNEDSHIFT = 94;
+  public int JJTRSIGNEDSHIFT = 95;
+  public int JJTANNOTATION = 96;
+  public int JJTNORMALANNOTATION = 97;
+  public int JJTMARKERANNOTATION = 98;
+  public int JJTSINGLEMEMBERANNOTATION = 99;
+  public int JJTMEMBERVALUEPAIRS = 100;
+  public int JJTMEMBERVALUEPAIR = 101;
+  public int JJTMEMBERVALUE = 102;
+  public int JJTMEMBERVALUEARRAYINITIALIZER = 103;
+  public int JJTANNOTATIONTYPEDECLARATION = 104;
+  public int JJTANNOTATIONTYPEBODY = 105;
+  public int JJTANNOTATIONTYPEMEMBERDECLARATION = 106;
+  public int JJTDEFAULTVALUE = 107;
 
 
   public String[] jjtNodeName = {
@@ -139,6 +140,7 @@ public interface JavaParserTreeConstants
     "FormalParameters",
     "FormalParameter",
     "ConstructorDeclaration",
+    "void",
     "ExplicitConstructorInvocation",
     "Initializer",
     "Type",
@@ -222,4 +224,4 @@ public interface JavaParserTreeConstants
     "DefaultValue",
   };
 }
-/* JavaCC - OriginalChecksum=51f74dfff49f2c39d69566bce12a2fbf (do not edit this line) */
+/* JavaCC - OriginalChecksum=82ba447598a1f4cdcc72ab2403eeb1c7 (do not edit this line) */
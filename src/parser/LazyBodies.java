@@ -0,0 +1,150 @@
+package parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Method, constructor and initializer bodies skipped by a parser in
+ * skip-bodies mode, recorded as the node that owns each body and the
+ * "{" token it starts with.
+ *
+ * The tokens of a file stay linked through Token.next after the parse,
+ * so a body can be parsed later without lexing it again: parse() builds
+ * each body and appends its nodes to the owner, giving the same tree as
+ * a normal parse. Bodies are independent, so parse(ExecutorService)
+ * spreads them over several parsers; the token chain is only read.
+ *
+ * Set with JavaParser.setLazyBodies before the structural parse and
+ * clear() before reusing it for another file.
+ */
+public class LazyBodies
+{
+    /** Fewer bodies than this per task are not worth a parser of their own. */
+    static final int MIN_BODIES_PER_TASK = 32;
+
+    private Node[] owners = new Node[64];
+    private Token[] starts = new Token[64];
+    private int size;
+
+    /** Parser used by the sequential parse(), created on first use. */
+    private JavaParser parser;
+
+    void add(Node owner, Token open)
+    {
+        if (size == owners.length)
+        {
+            owners = Arrays.copyOf(owners, size * 2);
+            starts = Arrays.copyOf(starts, size * 2);
+        }
+        owners[size] = owner;
+        starts[size++] = open;
+    }
+
+    /** @return number of bodies recorded and not parsed yet. */
+    public int size()
+    {
+        return size;
+    }
+
+    public Node owner(int i)
+    {
+        return owners[i];
+    }
+
+    /** @return the "{" token of the i-th body. */
+    public Token start(int i)
+    {
+        return starts[i];
+    }
+
+    public void clear()
+    {
+        Arrays.fill(owners, 0, size, null);
+        Arrays.fill(starts, 0, size, null);
+        size = 0;
+    }
+
+    /** Parses all the bodies in this thread, then clears the list. */
+    public void parse() throws ParseException
+    {
+        if (parser == null)
+            parser = newParser();
+        try
+        {
+            parse(parser, 0, size);
+        }
+        finally
+        {
+            parser.ReInit(parser.token_source);
+            clear();
+        }
+    }
+
+    /**
+     * Parses the bodies with up to tasks parsers on executor, then
+     * clears the list. Lists too short to be split are parsed in the
+     * calling thread. The calling thread must not be one the executor
+     * needs to run the tasks.
+     */
+    public void parse(ExecutorService executor, int tasks) throws ParseException
+    {
+        int n = Math.min(tasks, size / MIN_BODIES_PER_TASK);
+        if (n <= 1)
+        {
+            parse();
+            return;
+        }
+        List<Future<Void>> futures = new ArrayList<Future<Void>>(n);
+        try
+        {
+            for (int t = 0; t < n; t++)
+            {
+                final int from = (int) ((long) size * t / n);
+                final int to = (int) ((long) size * (t + 1) / n);
+                futures.add(executor.submit(() -> {
+                    parse(newParser(), from, to);
+                    return null;
+                }));
+            }
+            for (Future<Void> f : futures)
+                f.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new ParseException("Interrupted while parsing method bodies");
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof ParseException)
+                throw (ParseException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw (Error) cause;
+        }
+        finally
+        {
+            for (Future<Void> f : futures)
+                f.cancel(false);
+            clear();
+        }
+    }
+
+    private void parse(JavaParser p, int from, int to) throws ParseException
+    {
+        for (int i = from; i < to; i++)
+            p.parseSkippedBody(owners[i], starts[i]);
+    }
+
+    /* The bodies are read from the token chain: the token manager only
+       answers if a lookahead ran past the end of the file, with EOF. */
+    private static JavaParser newParser()
+    {
+        return new JavaParser(new JavaParserTokenManager(new ArrayCharStream()));
+    }
+}
@@ -7,6 +7,7 @@ class SimpleNode implements Node {
 
   protected Node parent;
   protected Node[] children;
+  protected int numChildren;
   protected int id;
   protected Object value;
   protected JavaParser parser;
@@ -29,15 +30,22 @@ class SimpleNode implements Node {
   public void jjtSetParent(Node n) { parent = n; }
   public Node jjtGetParent() { return parent; }
 
+  /* JJTJavaParserState adds children from the highest index down, so
+     the first call sizes the array to the node arity at once. Adding in
+     increasing order grows the array geometrically: numChildren, not
+     children.length, is the number of children. */
   public void jjtAddChild(Node n, int i) {
     if (children == null) {
       children = new Node[i + 1];
     } else if (i >= children.length) {
-      Node c[] = new Node[i + 1];
-      System.arraycopy(children, 0, c, 0, children.length);
+      Node c[] = new Node[Math.max(i + 1, children.length * 2)];
+      System.arraycopy(children, 0, c, 0, numChildren);
       children = c;
     }
     children[i] = n;
+    if (i >= numChildren) {
+      numChildren = i + 1;
+    }
   }
 
   public Node jjtGetChild(int i) {
@@ -45,7 +53,7 @@ class SimpleNode implements Node {
   }
 
   public int jjtGetNumChildren() {
-    return (children == null) ? 0 : children.length;
+    return numChildren;
   }
 
   public void jjtSetValue(Object value) { this.value = value; }
@@ -63,7 +71,7 @@ class SimpleNode implements Node {
      throws Exception
 {
     if (children != null) {
-      for (int i = 0; i < children.length; ++i) {
+      for (int i = 0; i < numChildren; ++i) {
         children[i].jjtAccept(visitor, data);
       }
     }
@@ -87,7 +95,7 @@ class SimpleNode implements Node {
   public void dump(String prefix) {
     System.out.println(toString(prefix));
     if (children != null) {
-      for (int i = 0; i < children.length; ++i) {
+      for (int i = 0; i < numChildren; ++i) {
         SimpleNode n = (SimpleNode)children[i];
         if (n != null) {
           n.dump(prefix + " ");
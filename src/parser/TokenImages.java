@@ -0,0 +1,94 @@
+package parser;
+
+/**
+ * Flyweight images for the tokens whose image is not a fixed literal.
+ *
+ * Keywords, separators and operators already share the constant strings
+ * of JavaParserTokenManager.jjstrLiteralImages; every other token gets
+ * its image from the char stream, one new String per occurrence. With a
+ * TokenImages set on ArrayCharStream, ArrayTokenManager builds tokens with:
+ *
+ *  - identifiers and literals are looked up in a direct-mapped cache of
+ *    strings, compared in place against the source chars, so a name
+ *    that occurs again (in this file or, as the cache is kept across
+ *    ReInit, in the previous ones) reuses the same String;
+ *  - comments, which no AST node keeps, get the constant image of their
+ *    kind (e.g. "<SINGLE_LINE_COMMENT>") and no String is created.
+ *
+ * The cache has a fixed size: a colliding image replaces the old one,
+ * so memory does not grow with the project. Not thread safe, one
+ * instance per char stream.
+ */
+public class TokenImages
+{
+    /** Longer images (mostly string literals) rarely repeat and are not cached. */
+    static final int MAX_CACHED_LENGTH = 64;
+
+    private final String[] cache;
+    private final int mask;
+
+    private long hits;
+    private long misses;
+
+    public TokenImages()
+    {
+        this(1 << 14);
+    }
+
+    /** @param slots cache size, a power of two. */
+    public TokenImages(int slots)
+    {
+        if (slots <= 0 || (slots & (slots - 1)) != 0)
+            throw new IllegalArgumentException("slots must be a power of two: " + slots);
+        cache = new String[slots];
+        mask = slots - 1;
+    }
+
+    /** @return the image of a token of the given kind, text[start .. start+length-1]. */
+    public String image(int kind, char[] text, int start, int length)
+    {
+        if (kind == JavaParserConstants.SINGLE_LINE_COMMENT || kind == JavaParserConstants.FORMAL_COMMENT
+                || kind == JavaParserConstants.MULTI_LINE_COMMENT)
+            return JavaParserConstants.tokenImage[kind];
+        if (length > MAX_CACHED_LENGTH)
+            return new String(text, start, length);
+
+        int h = 0;
+        for (int i = 0; i < length; i++)
+            h = 31 * h + text[start + i];
+        int slot = (h ^ (h >>> 16)) & mask;
+
+        String cached = cache[slot];
+        if (cached != null && matches(cached, text, start, length))
+        {
+            hits++;
+            return cached;
+        }
+        misses++;
+        String image = new String(text, start, length);
+        cache[slot] = image;
+        return image;
+    }
+
+    private static boolean matches(String s, char[] text, int start, int length)
+    {
+        if (s.length() != length)
+            return false;
+        for (int i = 0; i < length; i++)
+            if (s.charAt(i) != text[start + i])
+                return false;
+        return true;
+    }
+
+    /** @return images served from the cache. */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /** @return images created (cache misses; comments and long images excluded). */
+    public long getMisses()
+    {
+        return misses;
+    }
+}
@@ -0,0 +1,40 @@
+package analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import clean_metrics.ClassMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectAnalyzerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void eachAnalyzerHasItsOwnSymbols() throws Exception {
+        Path a = Files.write(dir.resolve("A.java"), "class A { int x; }".getBytes(StandardCharsets.UTF_8));
+        Path b = Files.write(dir.resolve("B.java"), "class B { int y; }".getBytes(StandardCharsets.UTF_8));
+        ProjectAnalyzer first = new ProjectAnalyzer(1);
+        ProjectAnalyzer second = new ProjectAnalyzer(1);
+        Map<String, ClassMetrics> fromFirst = first.analyze(List.of(a));
+        Map<String, ClassMetrics> fromSecond = second.analyze(List.of(b));
+
+        assertNotSame(first.getSymbols(), second.getSymbols());
+        assertSame(first.getSymbols(), fromFirst.get("A").getSymbols());
+        assertSame(second.getSymbols(), fromSecond.get("B").getSymbols());
+        // i nomi di un'analisi non finiscono nella tabella dell'altra
+        assertEquals(-1, second.getSymbols().lookup("A"));
+        assertEquals(-1, second.getSymbols().lookup("x"));
+        assertEquals(2, second.getSymbols().size());
+    }
+}
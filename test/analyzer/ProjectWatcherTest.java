@@ -0,0 +1,136 @@
+package analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import clean_metrics.ClassMetrics;
+import clean_metrics.Metric;
+import clean_metrics.MetricsCalculator;
+import clean_metrics.MetricsResult;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectWatcherTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parseErrorKeepsTheLastGoodVersion() throws Exception {
+        Path a = write("A.java", "class A { int x; void m() { x = 1; } }");
+        Path b = write("B.java", "class B extends A { }");
+        ProjectAnalyzer analyzer = new ProjectAnalyzer(1);
+        ProjectWatcher watcher = new ProjectWatcher(analyzer, List.of(dir), dir.resolve("metrics.csv"));
+        watcher.update(Set.of(a, b), Map.of());
+        assertEquals(Set.of("A", "B"), watcher.getProject().keySet());
+
+        // modifica a meta': A resta com'era, nessuna riga ricalcolata
+        write("A.java", "class A { int x; void m() { x = ");
+        List<MetricsResult> refreshed = watcher.update(Set.of(a), Map.of());
+        assertTrue(refreshed.isEmpty());
+        assertEquals(Set.of("A", "B"), watcher.getProject().keySet());
+        assertEquals(1, watcher.getProject().get("A").getChildren().size());
+        assertTrue(analyzer.getFailedFiles().isEmpty());
+
+        // salvataggio corretto: A viene sostituita
+        write("A.java", "class A { int x; int y; }");
+        assertEquals(Set.of("A"), names(watcher.update(Set.of(a), Map.of())));
+        assertEquals(2, watcher.getProject().get("A").getFields().size());
+
+        // solo la cancellazione toglie le classi del file
+        Files.delete(a);
+        watcher.update(Set.of(a), Map.of());
+        assertEquals(Set.of("B"), watcher.getProject().keySet());
+    }
+
+    @Test
+    void fileThatNeverParsedContributesNothing() throws Exception {
+        Path a = write("A.java", "class A {");
+        ProjectAnalyzer analyzer = new ProjectAnalyzer(1);
+        ProjectWatcher watcher = new ProjectWatcher(analyzer, List.of(dir), dir.resolve("metrics.csv"));
+        watcher.update(Set.of(a), Map.of());
+        assertTrue(watcher.getProject().isEmpty());
+        assertTrue(analyzer.getFailedFiles().isEmpty());
+
+        write("A.java", "class A { }");
+        watcher.update(Set.of(a), Map.of());
+        assertEquals(Set.of("A"), watcher.getProject().keySet());
+    }
+
+    @Test
+    void renamedNamesDoNotPileUpInTheSymbolTable() throws Exception {
+        int fields = 600;
+        Path a = write("A.java", classWithFields(fields, 0));
+        Path b = write("B.java", "class B extends A { void m() { f0_0 = 1; } }");
+        ProjectAnalyzer analyzer = new ProjectAnalyzer(1);
+        ProjectWatcher watcher = new ProjectWatcher(analyzer, List.of(dir), dir.resolve("metrics.csv"));
+        watcher.update(Set.of(a, b), Map.of());
+        int initial = analyzer.getSymbols().size();
+
+        // ogni salvataggio rinomina tutti i campi di A
+        for (int version = 1; version <= 10; version++) {
+            write("A.java", classWithFields(fields, version));
+            watcher.update(Set.of(a), Map.of());
+            assertTrue(analyzer.getSymbols().size() <= 2 * initial + ProjectWatcher.COMPACT_SLACK + fields,
+                    "simboli: " + analyzer.getSymbols().size());
+        }
+
+        // dopo le compattazioni il modello e' sulla tabella corrente e
+        // coincide con quello di un'analisi da zero
+        ClassMetrics current = watcher.getProject().get("A");
+        assertSame(analyzer.getSymbols(), current.getSymbols());
+        assertSame(analyzer.getSymbols(), watcher.getProject().get("B").getSymbols());
+        assertEquals(fields, current.getFields().size());
+        assertTrue(current.hasField("f0_10"));
+        assertEquals(1, current.getChildren().size());
+        Map<String, ClassMetrics> fresh = new ProjectAnalyzer(1).analyze(List.of(a, b));
+        assertEquals(values(new MetricsCalculator(fresh).calculate()),
+                values(new MetricsCalculator(new HashMap<>(watcher.getProject())).calculate()));
+    }
+
+    private Path write(String name, String source) throws Exception {
+        return Files.write(dir.resolve(name), source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String classWithFields(int fields, int version) {
+        StringBuilder source = new StringBuilder("class A {");
+        for (int f = 0; f < fields; f++) {
+            source.append(" int f").append(f).append('_').append(version).append(';');
+        }
+        return source.append(" }").toString();
+    }
+
+    // valori di tutte le metriche per classe
+    private static Map<String, List<Integer>> values(List<MetricsResult> rows) {
+        Map<String, List<Integer>> values = new TreeMap<>();
+        for (MetricsResult row : rows) {
+            List<Integer> metrics = new ArrayList<>();
+            for (Metric m : Metric.all()) {
+                metrics.add(m.valueOf(row));
+            }
+            values.put(row.getClassName(), metrics);
+        }
+        return values;
+    }
+
+    private static Set<String> names(List<MetricsResult> rows) {
+        Set<String> names = new TreeSet<>();
+        for (MetricsResult row : rows) {
+            names.add(row.getClassName());
+        }
+        return names;
+    }
+}
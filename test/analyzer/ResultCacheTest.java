@@ -0,0 +1,170 @@
+package analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import benchmark.CorpusGenerator;
+import clean_metrics.ClassMetrics;
+import clean_metrics.IntSet;
+import clean_metrics.SymbolTable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripKeepsEveryField() throws IOException {
+        Map<String, ClassMetrics> metrics = sample();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ResultCache.write(out, metrics);
+        }
+        Map<String, ClassMetrics> read = ResultCache.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+                new SymbolTable());
+        assertEquals(describe(metrics), describe(read));
+    }
+
+    @Test
+    void storeAndLoadFromDisk() throws IOException {
+        ResultCache cache = new ResultCache(dir.resolve("cache"));
+        byte[] key = ResultCache.key(content("class A {}"));
+        assertNull(cache.load(key, new SymbolTable()));
+
+        Map<String, ClassMetrics> metrics = sample();
+        cache.store(key, metrics);
+        cache.store(key, metrics);
+        assertEquals(describe(metrics), describe(cache.load(key, new SymbolTable())));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // nessun file temporaneo lasciato accanto alla voce
+        try (Stream<Path> files = Files.walk(dir)) {
+            assertFalse(files.anyMatch(p -> p.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void parsedSummariesSurviveTheCache() throws Exception {
+        CorpusGenerator generator = new CorpusGenerator();
+        generator.setClasses(10);
+        Path sources = dir.resolve("src");
+        generator.writeTo(sources);
+        List<Path> files = ProjectAnalyzer.collectSources(List.of(sources));
+
+        ProjectAnalyzer analyzer = new ProjectAnalyzer(1);
+        Map<Path, Map<String, ClassMetrics>> parsed = analyzer.analyzeEach(files);
+
+        ProjectAnalyzer cached = new ProjectAnalyzer(1);
+        ResultCache cache = new ResultCache(dir.resolve("cache"));
+        cached.setCache(cache);
+        cached.analyzeEach(files);
+        assertEquals(files.size(), cache.getMisses());
+        Map<Path, Map<String, ClassMetrics>> reloaded = cached.analyzeEach(files);
+        assertEquals(files.size(), cache.getHits());
+
+        for (Path file : files) {
+            assertEquals(describe(parsed.get(file)), describe(reloaded.get(file)), file.toString());
+        }
+    }
+
+    @Test
+    void skippedBodiesHaveDistinctKeys() {
+        ByteBuffer content = content("class A { void m() { } }");
+        assertArrayEquals(ResultCache.key(content), ResultCache.key(content, false));
+        assertFalse(Arrays.equals(ResultCache.key(content), ResultCache.key(content, true)));
+        assertFalse(Arrays.equals(ResultCache.key(content), ResultCache.key(content("class B {}"))));
+    }
+
+    @Test
+    void damagedEntryIsIgnored() throws IOException {
+        ResultCache cache = new ResultCache(dir.resolve("cache"));
+        byte[] key = ResultCache.key(content("class A {}"));
+        cache.store(key, sample());
+        try (Stream<Path> files = Files.walk(dir.resolve("cache"))) {
+            Path entry = files.filter(p -> p.toString().endsWith(".bin")).findFirst().orElseThrow();
+            byte[] data = Files.readAllBytes(entry);
+            Files.write(entry, Arrays.copyOf(data, data.length / 2));
+        }
+        assertNull(cache.load(key, new SymbolTable()));
+        assertEquals(0, cache.getHits());
+    }
+
+    // ----------------------------
+    // SUPPORTO
+    // ----------------------------
+    private static ByteBuffer content(String source) {
+        return ByteBuffer.wrap(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // due classi con tutti i campi del formato, nomi non ASCII compresi
+    private static Map<String, ClassMetrics> sample() {
+        SymbolTable symbols = new SymbolTable();
+        ClassMetrics a = new ClassMetrics(symbols, "pkg.Città");
+        a.setParentClass("pkg.Base");
+        a.addField("x");
+        a.addField("y");
+        a.addMethod("get");
+        a.addMethod("set");
+        a.addCoupledClass("pkg.B");
+        a.addInvokedMethod("get");
+        a.addInvokedMethod("println");
+        a.addMethodAccessedField("get", "x");
+        a.addMethodAccessedField("set", "x");
+        a.addMethodAccessedField("set", "y");
+
+        ClassMetrics b = new ClassMetrics(symbols, "pkg.B");
+        b.addMethod("run");
+
+        Map<String, ClassMetrics> metrics = new HashMap<>();
+        metrics.put(a.getClassName(), a);
+        metrics.put(b.getClassName(), b);
+        return metrics;
+    }
+
+    // contenuto di un riepilogo per nome, indipendente dagli id
+    private static String describe(Map<String, ClassMetrics> metrics) {
+        Map<String, String> out = new TreeMap<>();
+        for (ClassMetrics cm : metrics.values()) {
+            SymbolTable symbols = cm.getSymbols();
+            Map<String, TreeSet<String>> accessed = new TreeMap<>();
+            cm.getMethodToAccessedFields().forEach((method, fields) ->
+                    accessed.put(symbols.name(method), names(symbols, fields)));
+            out.put(cm.getClassName(), "parent=" + cm.getParentClass()
+                    + " fields=" + names(symbols, cm.getFields())
+                    + " methods=" + names(symbols, cm.getMethods())
+                    + " coupled=" + names(symbols, cm.getCoupledClasses())
+                    + " invoked=" + names(symbols, cm.getInvokedMethods())
+                    + " accessed=" + accessed);
+        }
+        return out.toString();
+    }
+
+    private static TreeSet<String> names(SymbolTable symbols, IntSet ids) {
+        TreeSet<String> names = new TreeSet<>();
+        ids.forEach(id -> names.add(symbols.name(id)));
+        return names;
+    }
+}
@@ -0,0 +1,357 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Genera progetti Java sintetici accettati dalla grammatica di
+ * JavaParser.jjt (niente diamond, lambda o altri costrutti successivi a
+ * Java 5), per misurare l'analizzatore su 10.000-1.000.000 di classi.
+ *
+ * Ogni classe Ck sta nel suo file, nel package gen.p(k / 1000), e ha:
+ *  - un padre, se non e' la radice della sua catena (catene di depth+1
+ *    classi consecutive: DIT fino a depth);
+ *  - fields campi int e methods metodi "public int mJ(int x)" con bodySize
+ *    istruzioni che leggono e scrivono i campi (LCOM) e chiamano altri
+ *    metodi propri (RFC);
+ *  - coupling classi accoppiate, scelte a caso, istanziate nei corpi e
+ *    di cui viene chiamato un metodo (CBO, AdvCBO);
+ *  - con godClasses > 0, un accoppiamento in piu' verso una delle prime
+ *    godClasses classi, che hanno GOD_SCALE volte metodi e campi.
+ *
+ * Ogni sorgente dipende solo dai parametri e dal proprio indice, quindi
+ * si generano uno alla volta senza tenere il progetto in memoria.
+ *
+ * Sta con i test, che lo usano come sorgente di programmi validi, e viene
+ * compilato anche nel modulo jmh (corpus "sintetico" e riga di comando).
+ *
+ * Uso: java -cp jmh/target/benchmarks.jar benchmark.CorpusGenerator
+ *          [--classes N] [--depth D] [--methods M] [--fields F] [--coupling C]
+ *          [--body S] [--god-classes G] [--seed X] [--shape god|deep|dense] <directory>
+ */
+public class CorpusGenerator {
+
+    private static final String USAGE =
+            "Uso: java -cp jmh/target/benchmarks.jar benchmark.CorpusGenerator [--classes N] [--depth D]"
+                    + " [--methods M] [--fields F] [--coupling C] [--body S] [--god-classes G] [--seed X]"
+                    + " [--shape god|deep|dense] <directory>";
+
+    /** Classi per package (e per directory). */
+    public static final int CLASSES_PER_PACKAGE = 1000;
+
+    /** Quante volte una god class supera le altre in metodi e campi. */
+    public static final int GOD_SCALE = 50;
+
+    private int classes = 1000;
+    private int depth = 3;
+    private int methods = 10;
+    private int fields = 5;
+    private int coupling = 4;
+    private int bodySize = 8;
+    private int godClasses;
+    private long seed = 42;
+
+    public static void main(String[] args) throws IOException {
+        CorpusGenerator generator = new CorpusGenerator();
+        Path dir = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--classes":
+                    generator.setClasses(Integer.parseInt(requireValue(args, ++i)));
+                    break;
+                case "--depth":
+                    generator.setDepth(Integer.parseInt(requireValue(args, ++i)));
+                    break;
+                case "--methods":
+                    generator.setMethods(Integer.parseInt(requireValue(args, ++i)));
+                    break;
+                case "--fields":
+                    generator.setFields(Integer.parseInt(requireValue(args, ++i)));
+                    break;
+                case "--coupling":
+                    generator.setCoupling(Integer.parseInt(requireValue(args, ++i)));
+                    break;
+                case "--body":
+                    generator.setBodySize(Integer.parseInt(requireValue(args, ++i)));
+                    break;
+                case "--god-classes":
+                    generator.setGodClasses(Integer.parseInt(requireValue(args, ++i)));
+                    break;
+                case "--seed":
+                    generator.setSeed(Long.parseLong(requireValue(args, ++i)));
+                    break;
+                case "--shape":
+                    generator.applyShape(requireValue(args, ++i));
+                    break;
+                default:
+                    dir = Paths.get(args[i]);
+            }
+        }
+        if (dir == null) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        long bytes = generator.writeTo(dir);
+        System.out.printf("Generate %,d classi (%,d byte) in %s in %.1f s%n",
+                generator.getClasses(), bytes, dir, (System.nanoTime() - start) / 1e9);
+    }
+
+    private static String requireValue(String[] args, int i) {
+        if (i >= args.length) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        return args[i];
+    }
+
+    // ----------------------------
+    // FORME PATOLOGICHE
+    // ----------------------------
+
+    /**
+     * Imposta una forma estrema sugli altri parametri:
+     *  - god:   1 classe ogni 1000 e' una god class, usata da tutte le altre;
+     *  - deep:  un'unica catena di ereditarieta' lunga quanto il progetto;
+     *  - dense: 50 classi accoppiate per classe.
+     * Va applicata dopo --classes.
+     */
+    public void applyShape(String shape) {
+        switch (shape) {
+            case "god":
+                setGodClasses(Math.max(1, classes / 1000));
+                break;
+            case "deep":
+                setDepth(classes - 1);
+                break;
+            case "dense":
+                setCoupling(50);
+                break;
+            default:
+                throw new IllegalArgumentException("Forma sconosciuta: " + shape);
+        }
+    }
+
+    // ----------------------------
+    // OUTPUT
+    // ----------------------------
+
+    /** Scrive tutte le classi sotto dir; restituisce i byte scritti. */
+    public long writeTo(Path dir) throws IOException {
+        long bytes = 0;
+        StringBuilder sb = new StringBuilder();
+        for (int c = 0; c < classes; c++) {
+            Path file = dir.resolve(relativePath(c));
+            if (c % CLASSES_PER_PACKAGE == 0) {
+                Files.createDirectories(file.getParent());
+            }
+            sb.setLength(0);
+            appendSource(sb, c);
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                out.append(sb);
+            }
+            bytes += sb.length();
+        }
+        return bytes;
+    }
+
+    /** Percorso del file della classe c, relativo alla radice dei sorgenti. */
+    public String relativePath(int c) {
+        return "gen/p" + c / CLASSES_PER_PACKAGE + "/C" + c + ".java";
+    }
+
+    public String source(int c) {
+        StringBuilder sb = new StringBuilder();
+        appendSource(sb, c);
+        return sb.toString();
+    }
+
+    // ----------------------------
+    // SORGENTE DI UNA CLASSE
+    // ----------------------------
+    private void appendSource(StringBuilder sb, int c) {
+        int parent = c % (depth + 1) != 0 ? c - 1 : -1;
+        int[] coupled = coupledClasses(c);
+        boolean god = c < godClasses;
+        int classMethods = god ? methods * GOD_SCALE : methods;
+        int classFields = god ? fields * GOD_SCALE : fields;
+
+        int pkg = c / CLASSES_PER_PACKAGE;
+        sb.append("package gen.p").append(pkg).append(";\n\n");
+        if (parent >= 0) {
+            appendImport(sb, pkg, parent);
+        }
+        for (int target : coupled) {
+            appendImport(sb, pkg, target);
+        }
+
+        sb.append("\npublic class C").append(c);
+        if (parent >= 0) {
+            sb.append(" extends C").append(parent);
+        }
+        sb.append(" {\n");
+        for (int f = 0; f < classFields; f++) {
+            sb.append("    private int f").append(f).append(" = ").append(f).append(";\n");
+        }
+        if (classMethods == 0) {
+            // senza metodi l'accoppiamento passa dagli inizializzatori dei campi
+            for (int t = 0; t < coupled.length; t++) {
+                sb.append("    private Object o").append(t).append(" = new C").append(coupled[t]).append("();\n");
+            }
+        }
+
+        for (int m = 0; m < classMethods; m++) {
+            sb.append("\n    public int m").append(m).append("(int x) {\n");
+            sb.append("        int r = x;\n");
+            for (int s = 0; s < bodySize; s++) {
+                appendStatement(sb, m, s, classMethods, classFields);
+            }
+            // le classi accoppiate sono distribuite tra i metodi
+            for (int t = m; t < coupled.length; t += classMethods) {
+                sb.append("        C").append(coupled[t]).append(" o").append(t)
+                        .append(" = new C").append(coupled[t]).append("();\n");
+                if (methods > 0) {
+                    sb.append("        r += o").append(t).append(".m").append((m + t) % methods).append("(r);\n");
+                }
+            }
+            sb.append("        return r;\n");
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+    }
+
+    private static void appendImport(StringBuilder sb, int pkg, int target) {
+        int targetPkg = target / CLASSES_PER_PACKAGE;
+        if (targetPkg != pkg) {
+            sb.append("import gen.p").append(targetPkg).append(".C").append(target).append(";\n");
+        }
+    }
+
+    // istruzione s del metodo m: campi letti/scritti, cicli, condizioni e
+    // chiamate ad altri metodi della classe, a rotazione
+    private static void appendStatement(StringBuilder sb, int m, int s, int classMethods, int classFields) {
+        String field = classFields > 0 ? "f" + (m + s) % classFields : "x";
+        switch (s % 5) {
+            case 0:
+                sb.append("        r += ").append(field).append(" * x;\n");
+                break;
+            case 1:
+                sb.append("        if (r > ").append(s).append(") {\n");
+                sb.append("            r -= ").append(field).append(";\n");
+                sb.append("        } else {\n");
+                sb.append("            ").append(field).append(" = r;\n");
+                sb.append("        }\n");
+                break;
+            case 2:
+                sb.append("        for (int i = 0; i < x; i++) {\n");
+                sb.append("            r += (i % 3 == 0) ? i : -i;\n");
+                sb.append("        }\n");
+                break;
+            case 3:
+                sb.append("        r += m").append((m + s) % classMethods).append("(x / 2);\n");
+                break;
+            default:
+                sb.append("        String s").append(s).append(" = \"v\" + r;\n");
+                sb.append("        r += s").append(s).append(".length();\n");
+        }
+    }
+
+    // coupling classi distinte diverse da c, piu' una god class se presenti
+    private int[] coupledClasses(int c) {
+        int others = classes - 1;
+        int count = Math.min(coupling, others);
+        int god = godClasses > 0 && c >= godClasses ? c % godClasses : -1;
+        int[] coupled = new int[count + (god >= 0 ? 1 : 0)];
+        int n = 0;
+        if (count * 2 > others) {
+            // quasi tutto il progetto: le classi successive a c, in ordine
+            for (int k = 1; n < count && k < classes; k++) {
+                int target = (c + k) % classes;
+                if (target != god) {
+                    coupled[n++] = target;
+                }
+            }
+        } else {
+            Random random = new Random(seed * 1_000_003L + c);
+            while (n < count) {
+                int target = random.nextInt(classes);
+                if (target != c && target != god && !contains(coupled, n, target)) {
+                    coupled[n++] = target;
+                }
+            }
+        }
+        if (god >= 0) {
+            coupled[n++] = god;
+        }
+        return n == coupled.length ? coupled : Arrays.copyOf(coupled, n);
+    }
+
+    private static boolean contains(int[] values, int n, int value) {
+        for (int i = 0; i < n; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ----------------------------
+    // PARAMETRI
+    // ----------------------------
+    public int getClasses() {
+        return classes;
+    }
+
+    public void setClasses(int classes) {
+        this.classes = requirePositive("classes", classes);
+    }
+
+    public void setDepth(int depth) {
+        this.depth = requireNonNegative("depth", depth);
+    }
+
+    public void setMethods(int methods) {
+        this.methods = requireNonNegative("methods", methods);
+    }
+
+    public void setFields(int fields) {
+        this.fields = requireNonNegative("fields", fields);
+    }
+
+    public void setCoupling(int coupling) {
+        this.coupling = requireNonNegative("coupling", coupling);
+    }
+
+    public void setBodySize(int bodySize) {
+        this.bodySize = requireNonNegative("body", bodySize);
+    }
+
+    public void setGodClasses(int godClasses) {
+        this.godClasses = requireNonNegative("god-classes", godClasses);
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    private static int requirePositive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " deve essere positivo: " + value);
+        }
+        return value;
+    }
+
+    private static int requireNonNegative(String name, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " non puo' essere negativo: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,110 @@
+package clean_metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IntIntMapTest {
+
+    private static final int MISSING = -1;
+
+    @Test
+    void putGetRemove() {
+        IntIntMap map = new IntIntMap();
+        assertEquals(MISSING, map.get(5, MISSING));
+        assertFalse(map.remove(5));
+        map.put(5, 0);
+        map.put(5, 7);
+        map.put(6, 8);
+        assertEquals(2, map.size());
+        assertEquals(7, map.get(5, MISSING));
+        assertTrue(map.containsKey(6));
+        assertTrue(map.remove(5));
+        assertFalse(map.containsKey(5));
+        assertEquals(1, map.size());
+        assertThrows(IllegalArgumentException.class, () -> map.put(-1, 0));
+    }
+
+    @Test
+    void negativeKeysAreNeverPresent() {
+        // -1 e' anche il marcatore delle posizioni libere, che hanno valore 0
+        IntIntMap map = new IntIntMap();
+        map.put(3, 9);
+        assertFalse(map.containsKey(-1));
+        assertEquals(MISSING, map.get(-1, MISSING));
+        assertFalse(map.remove(-1));
+        assertEquals(1, map.size());
+        assertEquals(9, map.get(3, MISSING));
+    }
+
+    @Test
+    void removeShiftsBackAcrossTheEndOfTheTable() {
+        // stessa disposizione di IntSetTest: sequenza 15, 0, 1, 2, 3 in 16 posizioni
+        int[] wrapping = new int[5];
+        System.arraycopy(IntSetTest.keysWithHome(IntSetTest.MASK, 3), 0, wrapping, 0, 3);
+        wrapping[3] = IntSetTest.keysWithHome(0, 1)[0];
+        wrapping[4] = IntSetTest.keysWithHome(1, 1)[0];
+
+        for (int start = 0; start < wrapping.length; start++) {
+            IntIntMap map = new IntIntMap();
+            Map<Integer, Integer> expected = new HashMap<>();
+            for (int i = 0; i < 7; i++) {
+                int k = IntSetTest.keysWithHome(4 + i, 1)[0];
+                map.put(k, -k);
+                expected.put(k, -k);
+            }
+            for (int k : wrapping) {
+                map.put(k, k * 2);
+                expected.put(k, k * 2);
+            }
+            for (int i = 0; i < wrapping.length; i++) {
+                int k = wrapping[(start + i) % wrapping.length];
+                assertTrue(map.remove(k));
+                expected.remove(k);
+                assertSameEntries(expected, map, 1024);
+            }
+        }
+    }
+
+    @Test
+    void randomOperationsMatchHashMap() {
+        Random random = new Random(19);
+        IntIntMap map = new IntIntMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int step = 0; step < 20000; step++) {
+            int k = random.nextInt(64);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(k) != null, map.remove(k));
+            } else {
+                expected.put(k, step);
+                map.put(k, step);
+            }
+            if (step % 100 == 0) {
+                assertSameEntries(expected, map, 64);
+            }
+        }
+        assertSameEntries(expected, map, 64);
+        map.clear();
+        assertSameEntries(new HashMap<>(), map, 64);
+    }
+
+    // IntIntMap non elenca le chiavi: si controllano tutte quelle minori di range
+    private static void assertSameEntries(Map<Integer, Integer> expected, IntIntMap map, int range) {
+        assertEquals(expected.size(), map.size());
+        for (int k : expected.keySet()) {
+            assertEquals(expected.get(k).intValue(), map.get(k, MISSING), "chiave " + k);
+        }
+        for (int k = 0; k < range; k++) {
+            Integer value = expected.get(k);
+            assertEquals(value != null, map.containsKey(k), "chiave " + k);
+            assertEquals(value == null ? MISSING : value.intValue(), map.get(k, MISSING), "chiave " + k);
+        }
+    }
+}
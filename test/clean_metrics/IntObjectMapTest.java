@@ -0,0 +1,112 @@
+package clean_metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+class IntObjectMapTest {
+
+    @Test
+    void putGetRemove() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        assertNull(map.get(3));
+        assertNull(map.remove(3));
+        assertNull(map.put(3, "a"));
+        assertEquals("a", map.put(3, "b"));
+        assertEquals("b", map.get(3));
+        assertEquals("x", map.getOrDefault(4, "x"));
+        assertSame(map.computeIfAbsent(4, k -> "c" + k), map.computeIfAbsent(4, k -> "d"));
+        assertEquals("c4", map.get(4));
+        assertEquals(2, map.size());
+        assertEquals("b", map.remove(3));
+        assertEquals(1, map.size());
+        assertThrows(IllegalArgumentException.class, () -> map.put(-1, "n"));
+    }
+
+    @Test
+    void negativeKeysAreNeverPresent() {
+        // -1 e' anche il marcatore delle posizioni libere
+        IntObjectMap<String> map = new IntObjectMap<>();
+        map.put(3, "a");
+        assertFalse(map.containsKey(-1));
+        assertNull(map.get(-1));
+        assertEquals("x", map.getOrDefault(-1, "x"));
+        assertNull(map.remove(-1));
+        assertEquals(1, map.size());
+        assertEquals("a", map.get(3));
+        assertThrows(IllegalArgumentException.class, () -> map.computeIfAbsent(-1, k -> "n"));
+    }
+
+    @Test
+    void removeShiftsBackAcrossTheEndOfTheTable() {
+        // stessa disposizione di IntSetTest: sequenza 15, 0, 1, 2, 3 in 16 posizioni
+        int[] wrapping = new int[5];
+        System.arraycopy(IntSetTest.keysWithHome(IntSetTest.MASK, 3), 0, wrapping, 0, 3);
+        wrapping[3] = IntSetTest.keysWithHome(0, 1)[0];
+        wrapping[4] = IntSetTest.keysWithHome(1, 1)[0];
+
+        for (int start = 0; start < wrapping.length; start++) {
+            IntObjectMap<String> map = new IntObjectMap<>();
+            Map<Integer, String> expected = new HashMap<>();
+            for (int i = 0; i < 7; i++) {
+                int k = IntSetTest.keysWithHome(4 + i, 1)[0];
+                map.put(k, "f" + k);
+                expected.put(k, "f" + k);
+            }
+            for (int k : wrapping) {
+                map.put(k, "w" + k);
+                expected.put(k, "w" + k);
+            }
+            for (int i = 0; i < wrapping.length; i++) {
+                int k = wrapping[(start + i) % wrapping.length];
+                assertEquals("w" + k, map.remove(k));
+                expected.remove(k);
+                assertSameEntries(expected, map);
+            }
+        }
+    }
+
+    @Test
+    void randomOperationsMatchHashMap() {
+        Random random = new Random(17);
+        IntObjectMap<Integer> map = new IntObjectMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int step = 0; step < 20000; step++) {
+            int k = random.nextInt(64);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(k), map.remove(k));
+            } else {
+                assertEquals(expected.put(k, step), map.put(k, step));
+            }
+            if (step % 100 == 0) {
+                assertSameEntries(expected, map);
+            }
+        }
+        assertSameEntries(expected, map);
+        map.clear();
+        assertSameEntries(new HashMap<>(), map);
+    }
+
+    private static <V> void assertSameEntries(Map<Integer, V> expected, IntObjectMap<V> map) {
+        assertEquals(expected.size(), map.size());
+        Map<Integer, V> entries = new TreeMap<>();
+        map.forEach(entries::put);
+        assertEquals(new TreeMap<>(expected), entries);
+        assertArrayEquals(entries.keySet().stream().mapToInt(Integer::intValue).toArray(),
+                Arrays.stream(map.keys()).sorted().toArray());
+        for (Map.Entry<Integer, V> e : expected.entrySet()) {
+            assertEquals(e.getValue(), map.get(e.getKey()));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package clean_metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class IntSetTest {
+
+    // con 12 chiavi la tabella ha 16 posizioni (fattore di carico 3/4)
+    static final int MASK = 15;
+
+    @Test
+    void addContainsRemove() {
+        IntSet set = new IntSet();
+        assertFalse(set.contains(0));
+        assertFalse(set.remove(0));
+        assertTrue(set.add(0));
+        assertTrue(set.add(42));
+        assertFalse(set.add(42));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.remove(42));
+        assertFalse(set.contains(42));
+        assertEquals(1, set.size());
+        assertThrows(IllegalArgumentException.class, () -> set.add(-1));
+    }
+
+    @Test
+    void negativeKeysAreNeverPresent() {
+        // -1 e' anche il marcatore delle posizioni libere
+        IntSet set = new IntSet();
+        set.add(3);
+        assertFalse(set.contains(-1));
+        assertFalse(set.contains(Integer.MIN_VALUE));
+        assertFalse(set.remove(-1));
+        assertEquals(1, set.size());
+        assertTrue(set.contains(3));
+        assertArrayEquals(new int[] { 3 }, set.toArray());
+    }
+
+    @Test
+    void removeShiftsBackAcrossTheEndOfTheTable() {
+        // sette chiavi nelle posizioni 4..10 portano la tabella a 16 posizioni;
+        // tre chiavi con posizione naturale 15, una con 0 e una con 1 formano
+        // una sequenza che riparte dall'inizio: 15, 0, 1, 2, 3
+        int[] fillers = new int[7];
+        for (int i = 0; i < fillers.length; i++) {
+            fillers[i] = keysWithHome(4 + i, 1)[0];
+        }
+        int[] last = keysWithHome(MASK, 3);
+        int first = keysWithHome(0, 1)[0];
+        int second = keysWithHome(1, 1)[0];
+        int[] wrapping = { last[0], last[1], last[2], first, second };
+
+        // ogni ordine di cancellazione delle chiavi che attraversano la fine
+        for (int start = 0; start < wrapping.length; start++) {
+            IntSet set = new IntSet();
+            Set<Integer> expected = new HashSet<>();
+            for (int k : fillers) {
+                set.add(k);
+                expected.add(k);
+            }
+            for (int k : wrapping) {
+                set.add(k);
+                expected.add(k);
+            }
+            for (int i = 0; i < wrapping.length; i++) {
+                int k = wrapping[(start + i) % wrapping.length];
+                assertTrue(set.remove(k));
+                expected.remove(k);
+                assertSameElements(expected, set);
+            }
+        }
+    }
+
+    @Test
+    void randomOperationsMatchHashSet() {
+        Random random = new Random(13);
+        IntSet set = new IntSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int step = 0; step < 20000; step++) {
+            int k = random.nextInt(64);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(k), set.remove(k));
+            } else {
+                assertEquals(expected.add(k), set.add(k));
+            }
+            if (step % 100 == 0) {
+                assertSameElements(expected, set);
+            }
+        }
+        assertSameElements(expected, set);
+        set.clear();
+        assertSameElements(new HashSet<>(), set);
+    }
+
+    @Test
+    void setOperations() {
+        IntSet a = new IntSet();
+        IntSet b = new IntSet();
+        for (int k = 0; k < 100; k++) {
+            a.add(k);
+            if (k % 3 == 0) {
+                b.add(k);
+            }
+        }
+        assertEquals(34, a.intersectionSize(b));
+        assertEquals(34, b.intersectionSize(a));
+        assertFalse(a.equals(b));
+
+        IntSet c = new IntSet();
+        c.addAll(b);
+        assertEquals(b, c);
+        assertEquals(b.hashCode(), c.hashCode());
+    }
+
+    // ----------------------------
+    // SUPPORTO
+    // ----------------------------
+
+    // count chiavi la cui posizione naturale in una tabella di MASK + 1 posizioni e' home
+    static int[] keysWithHome(int home, int count) {
+        int[] keys = new int[count];
+        int n = 0;
+        for (int k = 0; n < count; k++) {
+            if ((IntSet.hash(k) & MASK) == home) {
+                keys[n++] = k;
+            }
+        }
+        return keys;
+    }
+
+    private static void assertSameElements(Set<Integer> expected, IntSet set) {
+        assertEquals(expected.size(), set.size());
+        int[] elements = set.toArray();
+        Arrays.sort(elements);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), elements);
+        for (int k : expected) {
+            assertTrue(set.contains(k), "manca " + k);
+        }
+    }
+}
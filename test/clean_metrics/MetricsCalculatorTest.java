@@ -0,0 +1,201 @@
+package clean_metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import analyzer.ProjectAnalyzer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Dopo ogni updateClass/removeClass + recalculate le righe del calcolatore
+ * incrementale devono coincidere con quelle di un calcolatore nuovo,
+ * costruito sull'intero modello modificato.
+ */
+class MetricsCalculatorTest {
+
+    // definizione di una classe, da cui si costruisce ogni volta un nuovo ClassMetrics
+    private static final class Def {
+        final String name;
+        final String parent;
+        final String[] coupled;
+        final int methods;
+        final int fields;
+
+        Def(String name, String parent, int methods, int fields, String... coupled) {
+            this.name = name;
+            this.parent = parent;
+            this.coupled = coupled;
+            this.methods = methods;
+            this.fields = fields;
+        }
+
+        ClassMetrics build(SymbolTable symbols) {
+            ClassMetrics cm = new ClassMetrics(symbols, name);
+            if (parent != null) {
+                cm.setParentClass(parent);
+            }
+            for (String c : coupled) {
+                cm.addCoupledClass(c);
+            }
+            for (int f = 0; f < fields; f++) {
+                cm.addField("f" + f);
+            }
+            // il metodo m usa i campi fino a m: LCOM dipende dal numero di metodi e campi
+            for (int m = 0; m < methods; m++) {
+                cm.addMethod("m" + m);
+                cm.addInvokedMethod("m" + (m + 1));
+                for (int f = 0; f < fields && f <= m; f++) {
+                    cm.addMethodAccessedField("m" + m, "f" + f);
+                }
+            }
+            return cm;
+        }
+    }
+
+    private final SymbolTable symbols = new SymbolTable();
+    private final Map<String, Def> defs = new TreeMap<>();
+    private MetricsCalculator incremental;
+
+    @Test
+    void inheritanceAndCouplingChanges() {
+        start(new Def("A", null, 2, 1),
+                new Def("B", "A", 1, 0),
+                new Def("C", "B", 3, 2, "A"),
+                new Def("D", "C", 0, 0),
+                new Def("E", null, 1, 1, "A", "B"),
+                new Def("F", null, 1, 0, "C"),
+                new Def("X", "java.lang.Thread", 2, 2));
+
+        // cambia il padre: DIT di C e D, NOC di A e X
+        update(new Def("B", "X", 1, 0));
+        // cambia il coupling: AdvCBO di A, B e C
+        update(new Def("E", null, 1, 1, "C"));
+        // classe nuova in fondo a una catena, accoppiata a una classe esistente
+        update(new Def("G", "D", 2, 1, "F"));
+        // solo metodi e campi: nessuna altra classe cambia
+        assertEquals(Set.of("F"), update(new Def("F", null, 4, 3, "C")));
+        // classe rimossa in mezzo a una catena: D e G perdono gli antenati
+        remove("C");
+        remove("assente");
+        // la classe torna
+        update(new Def("C", "A", 1, 1));
+    }
+
+    @Test
+    void extendsCycle() {
+        start(new Def("P", "Q", 1, 0),
+                new Def("R", "P", 1, 0),
+                new Def("S", "R", 0, 0));
+
+        // Q chiude il ciclo P -> Q -> P, con R e S appesi
+        update(new Def("Q", "P", 1, 1));
+        // il ciclo si allarga a R
+        update(new Def("P", "R", 1, 0));
+        // e si rompe
+        update(new Def("Q", null, 1, 1));
+        update(new Def("P", "Q", 1, 0));
+        // classe che estende se stessa
+        update(new Def("S", "S", 0, 0));
+        remove("Q");
+    }
+
+    @Test
+    void randomSequence() {
+        Random random = new Random(7);
+        List<Def> initial = new ArrayList<>();
+        for (int c = 0; c < 30; c++) {
+            initial.add(randomDef(random, c));
+        }
+        start(initial.toArray(new Def[0]));
+
+        for (int step = 0; step < 300; step++) {
+            int c = random.nextInt(40);
+            if (random.nextInt(5) == 0) {
+                remove("K" + c);
+            } else {
+                update(randomDef(random, c));
+            }
+        }
+    }
+
+    @Test
+    void sameObjectCannotBeReused() {
+        start(new Def("A", null, 1, 0));
+        ClassMetrics a = new Def("A", null, 2, 0).build(symbols);
+        incremental.updateClass(a);
+        assertThrows(IllegalArgumentException.class, () -> incremental.updateClass(a));
+    }
+
+    // ----------------------------
+    // SUPPORTO
+    // ----------------------------
+
+    // padre e classi accoppiate tra K0..K39, spesso non ancora nel modello
+    private static Def randomDef(Random random, int c) {
+        String parent = random.nextInt(4) == 0 ? null : "K" + random.nextInt(40);
+        String[] coupled = new String[random.nextInt(4)];
+        for (int i = 0; i < coupled.length; i++) {
+            coupled[i] = "K" + random.nextInt(40);
+        }
+        return new Def("K" + c, parent, random.nextInt(4), random.nextInt(3), coupled);
+    }
+
+    private void start(Def... classes) {
+        for (Def def : classes) {
+            defs.put(def.name, def);
+        }
+        incremental = new MetricsCalculator(model());
+        assertSameAsFull();
+    }
+
+    private Set<String> update(Def def) {
+        defs.put(def.name, def);
+        Set<String> invalidated = incremental.updateClass(def.build(symbols));
+        assertTrue(invalidated.contains(def.name));
+        assertSameAsFull();
+        return invalidated;
+    }
+
+    private void remove(String name) {
+        defs.remove(name);
+        incremental.removeClass(name);
+        assertSameAsFull();
+    }
+
+    private void assertSameAsFull() {
+        incremental.recalculate();
+        MetricsCalculator full = new MetricsCalculator(model());
+        assertEquals(rows(full.calculate()), rows(incremental.calculate()));
+    }
+
+    // modello completo come lo costruisce ProjectAnalyzer: figli collegati sull'intero progetto
+    private Map<String, ClassMetrics> model() {
+        Map<String, ClassMetrics> model = new HashMap<>();
+        for (Def def : defs.values()) {
+            model.put(def.name, def.build(symbols));
+        }
+        ProjectAnalyzer.linkChildren(model);
+        return model;
+    }
+
+    private static Map<String, String> rows(List<MetricsResult> results) {
+        Map<String, String> rows = new TreeMap<>();
+        for (MetricsResult r : results) {
+            rows.put(r.getClassName(), "WMC=" + r.getWMC() + " DIT=" + r.getDIT() + " NOC=" + r.getNOC()
+                    + " CBO=" + r.getCBO() + " AdvCBO=" + r.getAdvCBO() + " RFC=" + r.getRFC()
+                    + " LCOM=" + r.getLCOM());
+        }
+        assertEquals(results.size(), rows.size(), "righe duplicate");
+        return rows;
+    }
+}
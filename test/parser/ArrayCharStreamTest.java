@@ -0,0 +1,178 @@
+package parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import benchmark.CorpusGenerator;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ArrayCharStream must be indistinguishable from JavaCharStream: same
+ * tokens, images, lines and columns, also with unicode escapes, tabs,
+ * every line terminator and adjustBeginLineColumn.
+ */
+class ArrayCharStreamTest
+{
+    private static final String ESCAPES = "class A {\n"
+            + "  String s = \"\\\\u0041 x\\u0042\";\n"
+            + "\tint \\u0061b = 1; // c\\u0044\n"
+            + "  char c = '\\uuu0043';\n"
+            + "  /* multi\n line \\u002A/ int z;\n"
+            + "}\n";
+
+    private static final String TERMINATORS = "class B {\r\n"
+            + "\tint a;\r"
+            + "  int\tb;\n"
+            + "\t\t/** doc\r\n\t * more */\r\n"
+            + "  void m() { a = b\t+ 1; }\n"
+            + "}";
+
+    @Test
+    void tokensMatchJavaCharStream()
+    {
+        assertSameTokens(ESCAPES);
+        assertSameTokens(TERMINATORS);
+        assertSameTokens("");
+        assertSameTokens("x");
+        assertSameTokens("\n\n\tint\\u0020y;");
+    }
+
+    @Test
+    void tokensMatchJavaCharStreamOnGeneratedSources()
+    {
+        CorpusGenerator generator = new CorpusGenerator();
+        generator.setClasses(20);
+        for (int c = 0; c < 20; c++)
+            assertSameTokens(generator.source(c));
+    }
+
+    @Test
+    void decodedBytesMatchChars()
+    {
+        ArrayCharStream stream = new ArrayCharStream();
+        stream.ReInit(ByteBuffer.wrap(ESCAPES.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+        assertEquals(tokens(new JavaCharStream(new StringReader(ESCAPES))), tokens(stream));
+
+        // the buffers are reused by the next ReInit
+        stream.ReInit(ByteBuffer.wrap(TERMINATORS.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+        assertEquals(tokens(new JavaCharStream(new StringReader(TERMINATORS))), tokens(stream));
+    }
+
+    @Test
+    void readCharAndBackupMatchJavaCharStream() throws IOException
+    {
+        for (String source : new String[] { ESCAPES, TERMINATORS })
+        {
+            for (int backup = 0; backup < 4; backup++)
+            {
+                assertEquals(positions(new JavaCharStream(new StringReader(source)), backup),
+                        positions(new ArrayCharStream(source.toCharArray(), source.length()), backup),
+                        "backup " + backup);
+            }
+        }
+    }
+
+    @Test
+    void adjustBeginLineColumnMatchesJavaCharStream() throws IOException
+    {
+        String[] sources = { "xy ab\ncd\nef gh\nij", "q\tab\\u0041c\nd\te\nf g h i j k" };
+        for (String source : sources)
+        {
+            for (int skip = 0; skip < 3; skip++)
+            {
+                for (int take = 1; take < 9; take++)
+                {
+                    for (int backup = 0; backup < take; backup++)
+                    {
+                        String where = "skip " + skip + ", take " + take + ", backup " + backup;
+                        assertEquals(adjusted(new JavaCharStream(new StringReader(source)), skip, take, backup),
+                                adjusted(new ArrayCharStream(source.toCharArray(), source.length()), skip, take, backup),
+                                where);
+                    }
+                }
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+
+    private static void assertSameTokens(String source)
+    {
+        assertEquals(tokens(new JavaCharStream(new StringReader(source))),
+                tokens(new ArrayCharStream(source.toCharArray(), source.length())));
+    }
+
+    private static List<String> tokens(JavaCharStream stream)
+    {
+        return tokens(new JavaParserTokenManager(stream));
+    }
+
+    /** kind, image and position of every token, special tokens included. */
+    private static List<String> tokens(JavaParserTokenManager tokenManager)
+    {
+        List<String> out = new ArrayList<>();
+        Token t;
+        do
+        {
+            t = tokenManager.getNextToken();
+            for (Token s = t.specialToken; s != null; s = s.specialToken)
+                out.add("special " + describe(s));
+            out.add(describe(t));
+        }
+        while (t.kind != JavaParserConstants.EOF);
+        return out;
+    }
+
+    private static String describe(Token t)
+    {
+        return t.kind + " " + t.image + " " + t.beginLine + ":" + t.beginColumn + "-" + t.endLine + ":" + t.endColumn;
+    }
+
+    /** Reads every char, backing up after each BeginToken, and records the positions. */
+    private static List<String> positions(JavaCharStream stream, int backup) throws IOException
+    {
+        List<String> out = new ArrayList<>();
+        try
+        {
+            while (true)
+            {
+                char c = stream.BeginToken();
+                for (int i = 0; i < backup; i++)
+                    stream.readChar();
+                stream.backup(backup);
+                out.add((int) c + " " + stream.getBeginLine() + ":" + stream.getBeginColumn()
+                        + "-" + stream.getEndLine() + ":" + stream.getEndColumn()
+                        + " " + stream.GetImage());
+            }
+        }
+        catch (IOException eof)
+        {
+            return out;
+        }
+    }
+
+    private static String adjusted(JavaCharStream stream, int skip, int take, int backup) throws IOException
+    {
+        for (int i = 0; i < skip; i++)
+            stream.BeginToken();
+        stream.BeginToken();
+        for (int i = 1; i < take; i++)
+            stream.readChar();
+        stream.backup(backup);
+        String before = position(stream);
+        stream.adjustBeginLineColumn(10, 5);
+        return before + " " + position(stream);
+    }
+
+    private static String position(JavaCharStream stream)
+    {
+        return stream.getBeginLine() + ":" + stream.getBeginColumn() + "-" + stream.getEndLine() + ":" + stream.getEndColumn();
+    }
+}
@@ -0,0 +1,146 @@
+package parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import benchmark.CorpusGenerator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * A structural parse followed by LazyBodies.parse must give the same tree
+ * as a normal parse: same nodes, in the same order, with the same images
+ * and parent links.
+ */
+class LazyBodiesTest
+{
+    private static final String SOURCE = "package p;\n"
+            + "import java.util.List;\n"
+            + "public class A<T> extends B implements Runnable {\n"
+            + "  static int count;\n"
+            + "  static { count = 1; }\n"
+            + "  { count++; }\n"
+            + "  private List<T> items = null;\n"
+            + "  public A() { super(); this.items = null; }\n"
+            + "  A(int n) { this(); count = n; }\n"
+            + "  public void run() {\n"
+            + "    for (int i = 0; i < count; i++) { if (i % 2 == 0) { continue; } }\n"
+            + "    Runnable r = new Runnable() { public void run() { count--; } };\n"
+            + "    String s = \"}\" + '{';\n"
+            + "    Object o = (List<String>) null;\n"
+            + "    switch (count) { case 1: { break; } default: }\n"
+            + "  }\n"
+            + "  abstract void none();\n"
+            + "  class Inner { int get() { return count; } }\n"
+            + "  enum E { X { void f() { } }, Y; void f() { } }\n"
+            + "}\n"
+            + "interface I { void m(); }\n"
+            + "@interface Ann { int value() default 0; }\n";
+
+    @Test
+    void sameTreeAsEagerParse() throws ParseException
+    {
+        assertSameTree(SOURCE);
+        assertSameTree("class Empty { }");
+    }
+
+    @Test
+    void sameTreeOnGeneratedSources() throws ParseException
+    {
+        CorpusGenerator generator = new CorpusGenerator();
+        generator.setClasses(10);
+        for (int c = 0; c < 10; c++)
+            assertSameTree(generator.source(c));
+    }
+
+    @Test
+    void sameTreeWithParallelParse() throws Exception
+    {
+        // a god class has enough bodies to be split over several parsers
+        CorpusGenerator generator = new CorpusGenerator();
+        generator.setClasses(10);
+        generator.setGodClasses(1);
+        String source = generator.source(0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            LazyBodies bodies = new LazyBodies();
+            JavaParser parser = structuralParser(source, bodies);
+            Node root = parser.CompilationUnit();
+            assertTrue(bodies.size() >= 4 * LazyBodies.MIN_BODIES_PER_TASK);
+            bodies.parse(executor, 4);
+            assertEquals(0, bodies.size());
+            assertEquals(describe(eagerParse(source)), describe(root));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void errorInABodyIsReportedByTheLazyParse() throws ParseException
+    {
+        LazyBodies bodies = new LazyBodies();
+        JavaParser parser = structuralParser("class A { void m() { int = ; } }", bodies);
+        parser.CompilationUnit();
+        assertEquals(1, bodies.size());
+        assertThrows(ParseException.class, bodies::parse);
+        assertEquals(0, bodies.size());
+    }
+
+    // ------------------------------------------------------------------
+
+    private static void assertSameTree(String source) throws ParseException
+    {
+        LazyBodies bodies = new LazyBodies();
+        Node root = structuralParser(source, bodies).CompilationUnit();
+        bodies.parse();
+        assertEquals(0, bodies.size());
+        assertEquals(describe(eagerParse(source)), describe(root));
+    }
+
+    private static Node eagerParse(String source) throws ParseException
+    {
+        return new JavaParser(new JavaParserTokenManager(new ArrayCharStream(source.toCharArray(), source.length())))
+                .CompilationUnit();
+    }
+
+    private static JavaParser structuralParser(String source, LazyBodies bodies)
+    {
+        JavaParser parser = new JavaParser(
+                new JavaParserTokenManager(new ArrayCharStream(source.toCharArray(), source.length())));
+        parser.setSkipBodies(true);
+        parser.setLazyBodies(bodies);
+        return parser;
+    }
+
+    /** One line per node: depth, name and image; parent links are checked on the way. */
+    private static String describe(Node root)
+    {
+        StringBuilder sb = new StringBuilder();
+        describe(root, 0, sb);
+        return sb.toString();
+    }
+
+    private static void describe(Node node, int depth, StringBuilder sb)
+    {
+        for (int i = 0; i < depth; i++)
+            sb.append(' ');
+        sb.append(node);
+        if (node instanceof HasImage)
+            sb.append(' ').append(((HasImage) node).getImage());
+        sb.append('\n');
+        for (int i = 0; i < node.jjtGetNumChildren(); i++)
+        {
+            Node child = node.jjtGetChild(i);
+            assertEquals(node, child.jjtGetParent(), "parent of " + child);
+            describe(child, depth + 1, sb);
+        }
+    }
+}
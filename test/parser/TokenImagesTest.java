@@ -0,0 +1,85 @@
+package parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * ArrayTokenManager with TokenImages: same tokens as without, repeated
+ * names share one String, comments keep their kind's tokenImage and
+ * GetImage() still returns the text that was read.
+ */
+class TokenImagesTest
+{
+    private static final String SOURCE = "class C { int count; /* c */ int count2; // d\n"
+            + "  void m() { count = count2; } }";
+
+    @Test
+    void tokensMatchTheDefaultTokenManager()
+    {
+        ArrayCharStream stream = new ArrayCharStream(SOURCE.toCharArray(), SOURCE.length());
+        stream.setTokenImages(new TokenImages());
+        JavaParserTokenManager sharedImages = new ArrayTokenManager(stream);
+        JavaParserTokenManager plainImages = new JavaParserTokenManager(new JavaCharStream(new StringReader(SOURCE)));
+        Token plain;
+        do
+        {
+            plain = plainImages.getNextToken();
+            Token shared = sharedImages.getNextToken();
+            assertEquals(plain.kind, shared.kind);
+            assertEquals(plain.beginLine + ":" + plain.beginColumn + "-" + plain.endLine + ":" + plain.endColumn,
+                    shared.beginLine + ":" + shared.beginColumn + "-" + shared.endLine + ":" + shared.endColumn);
+            assertEquals(plain.image, shared.image);
+            assertEquals(plain.specialToken == null, shared.specialToken == null);
+            if (plain.specialToken != null)
+            {
+                // comments are not turned into Strings
+                assertEquals(plain.specialToken.kind, shared.specialToken.kind);
+                assertSame(JavaParserConstants.tokenImage[shared.specialToken.kind], shared.specialToken.image);
+            }
+        }
+        while (plain.kind != JavaParserConstants.EOF);
+    }
+
+    @Test
+    void repeatedNamesShareOneString()
+    {
+        ArrayCharStream stream = new ArrayCharStream(SOURCE.toCharArray(), SOURCE.length());
+        TokenImages images = new TokenImages();
+        stream.setTokenImages(images);
+        JavaParserTokenManager tokenManager = new ArrayTokenManager(stream);
+        Token first = null;
+        Token last = null;
+        for (Token t = tokenManager.getNextToken(); t.kind != JavaParserConstants.EOF; t = tokenManager.getNextToken())
+        {
+            if (t.image.equals("count"))
+            {
+                if (first == null)
+                    first = t;
+                last = t;
+            }
+        }
+        assertTrue(first != last);
+        assertSame(first.image, last.image);
+        assertTrue(images.getHits() > 0);
+    }
+
+    @Test
+    void getImageIsTheTextRead() throws IOException
+    {
+        // a comment, whose token gets tokenImage[kind]: GetImage() does not
+        String comment = "/* not shared */";
+        ArrayCharStream stream = new ArrayCharStream(comment.toCharArray(), comment.length());
+        stream.setTokenImages(new TokenImages());
+        stream.BeginToken();
+        for (int i = 1; i < comment.length(); i++)
+            stream.readChar();
+        assertEquals(comment, stream.GetImage());
+        assertEquals(comment, new String(stream.GetSuffix(comment.length())));
+    }
+}